@@ -0,0 +1,95 @@
+//***************************************************************
+// Class: PhysicsFixture
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: A rocket set up for benchmarking, hands out the measured calls as JDK functional interfaces
+//
+// Attributes:  -gameManager: GameManager
+//				-rocket: Rocket
+//				-colliderPoints: double[]
+//				-startingAltitude: int
+//				-stepsSinceReset: int
+//
+// Methods: +apply(String): Object,
+//			-resetRocket(): void
+//
+//**************************************************************
+
+//JMH only accepts benchmarks outside the default package, and classes outside it can't name the game's classes. So the
+//benchmarks in jmh/benchmark load this class by name once per iteration and only call the lambdas it returns, which the JIT
+//inlines like direct calls.
+//The rocket starts at the given altitude thrusting straight out, and is put back there every RESET_STEPS steps (well before the
+//smallest tank runs dry) so each iteration measures the same kind of flight instead of a landed rocket. High up the collision
+//check stops at the bounding radius, right above the surface it tests every collider point.
+
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class PhysicsFixture implements Function<String, Object> {
+	
+	private static final int RESET_STEPS = 6000; //100 s at 60 steps per second
+	
+	private final GameManager gameManager;
+	private final Rocket rocket;
+	private final double[] colliderPoints = new double[RocketCollider.POINT_COUNT * 2];
+	private final int startingAltitude;
+	private int stepsSinceReset = 0;
+	
+	//'body' is an index in BodyCatalog.createBodies(), the list MenuPane.initializeBodies() uses, the parts are catalog ids
+	public PhysicsFixture(int body, String commandModule, String fuselage, String engine, int newStartingAltitude) {
+		PartCatalog catalog = PartCatalog.getDefault();
+		startingAltitude = newStartingAltitude;
+		gameManager = new GameManager(1 / 60.0);
+		rocket = gameManager.getPlayer();
+		rocket.setCurrentBody(BodyCatalog.createBodies().get(body));
+		rocket.setCommandModule((CommandModule)catalog.get(commandModule).create());
+		rocket.setFuselage((Fuselage)catalog.get(fuselage).create());
+		rocket.setEngine((Engine)catalog.get(engine).create());
+		resetRocket();
+	}
+
+	@Override
+	public Object apply(String benchmark) {
+		switch(benchmark) {
+			case "updatePosition":
+				return (DoubleSupplier)() -> {
+					if(++stepsSinceReset > RESET_STEPS) {
+						resetRocket();
+					}
+					rocket.updatePosition(gameManager.timeStep);
+					return rocket.getYPosition();
+				};
+			case "hasCollidedWithSurface":
+				return (BooleanSupplier)rocket::hasCollidedWithSurface;
+			case "calculateColliderPoints":
+				return (Supplier<double[][]>)rocket::calculateColliderPoints;
+			case "calculateColliderPointsInto": //The allocation free version the collision checks use
+				return (Supplier<double[]>)() -> {
+					rocket.calculateColliderPoints(colliderPoints);
+					return colliderPoints;
+				};
+			case "simulate": //One headless tick, as the simulation thread runs it
+				return (BooleanSupplier)() -> {
+					if(++stepsSinceReset > RESET_STEPS) {
+						resetRocket();
+					}
+					return gameManager.simulate();
+				};
+			default:
+				throw new IllegalArgumentException("There is no benchmark '" + benchmark + "'.");
+		}
+	}
+
+	private void resetRocket() {
+		rocket.setStartingAltitude(startingAltitude);
+		gameManager.resetMathModel();
+		rocket.setQueuedRotationAngleInDegrees(90); //Straight up, so the engine is exercised without ever landing
+		rocket.updateRotation();
+		rocket.getEngine().activate();
+		stepsSinceReset = 0;
+	}
+
+}
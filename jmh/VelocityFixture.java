@@ -0,0 +1,106 @@
+//***************************************************************
+// Class: VelocityFixture
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Rocket.calculateVelocity as it is and as it was before gravity, thrust and trig were computed once per step
+//
+// Attributes:  -rocket: Rocket
+//				-timeStep: double
+//
+// Methods: +apply(String): Object,
+//			-calculateVelocityBefore(): void,
+//			-calculateAngleBetweenGravityAndHorizontal(): double
+//
+//**************************************************************
+
+//The "before" version is the old calculateVelocity, copied here so the two can be compared on the same machine. It drains the
+//fuel twice per step like it used to, so both versions refill the tank every RESET_STEPS steps to keep thrusting.
+
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+public class VelocityFixture implements Function<String, Object> {
+	
+	private static final int RESET_STEPS = 6000;
+	
+	private final Rocket rocket;
+	private final double timeStep = 1 / 60.0;
+	private int steps = 0;
+	
+	public VelocityFixture() {
+		rocket = new Rocket();
+		rocket.setCurrentBody(BodyCatalog.createBodies().get(0));
+		rocket.setCommandModule(PartCatalog.createCommandModules().get(0));
+		rocket.setFuselage(PartCatalog.createFuselages().get(0));
+		rocket.setEngine(PartCatalog.createEngines().get(3));
+		rocket.setXPosition(0);
+		rocket.setYPosition(rocket.getCurrentBody().getRadius() + 100000);
+		rocket.setRotationAngleInDegrees(30);
+		rocket.getEngine().activate();
+	}
+
+	@Override
+	public Object apply(String version) {
+		switch(version) {
+			case "after":
+				return (DoubleSupplier)() -> {
+					refuel();
+					rocket.calculateVelocity(timeStep);
+					return rocket.getXVelocity();
+				};
+			case "before":
+				return (DoubleSupplier)() -> {
+					refuel();
+					calculateVelocityBefore();
+					return rocket.getXVelocity();
+				};
+			default:
+				throw new IllegalArgumentException("There is no version '" + version + "'.");
+		}
+	}
+
+	private void refuel() {
+		if(++steps > RESET_STEPS) {
+			rocket.getFuselage().resetFuelLevel();
+			rocket.setXVelocity(0);
+			rocket.setYVelocity(0);
+			steps = 0;
+		}
+	}
+
+	private void calculateVelocityBefore() {
+		Body body = rocket.getCurrentBody();
+		double rotation = rocket.getRotationAngleInDegrees();
+		rocket.setXVelocity(rocket.getXVelocity() - (body.gravitationalConstant * body.getMass() / Math.pow(rocket.calculateDistanceToSurfaceOfBody() + body.getRadius(), 2) * Math.cos(Math.toRadians(calculateAngleBetweenGravityAndHorizontal()))
+				- rocket.calculateThrustAcceleration(timeStep) * Math.cos(Math.toRadians(rotation))) * timeStep);
+		rocket.setYVelocity(rocket.getYVelocity() - (body.gravitationalConstant * body.getMass() / Math.pow(rocket.calculateDistanceToSurfaceOfBody() + body.getRadius(), 2) * Math.sin(Math.toRadians(calculateAngleBetweenGravityAndHorizontal()))
+				- rocket.calculateThrustAcceleration(timeStep) * Math.sin(Math.toRadians(rotation))) * timeStep);
+	}
+
+	private double calculateAngleBetweenGravityAndHorizontal() { //The old quadrant by quadrant version
+		double xPosition = rocket.getXPosition();
+		double yPosition = rocket.getYPosition();
+		double insideAngle = Math.toDegrees(Math.atan(yPosition / xPosition));
+		double angle = -1;
+		
+		if(yPosition >= 0) {
+			if(xPosition >= 0) { //Quadrant 1
+				angle = insideAngle;
+			}
+			else { //Quadrant 2
+				angle = 180 + insideAngle;
+			}
+		}
+		else {
+			if(xPosition < 0) { //Quadrant 3
+				angle = 180 + insideAngle;
+			}
+			else { //Quadrant 4
+				angle = 360 + insideAngle;
+			}
+		}
+		return angle;
+	}
+
+}
@@ -0,0 +1,126 @@
+//***************************************************************
+// Class: PhysicsBenchmark
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: JMH benchmarks of the physics hot path for every body and every part combination
+//
+// Attributes:  -body: int
+//				-commandModule: String
+//				-fuselage: String
+//				-engine: String
+//				-altitude: int
+//				-updatePosition: DoubleSupplier
+//				-hasCollidedWithSurface: BooleanSupplier
+//				-calculateColliderPoints: Supplier<double[][]>
+//				-calculateColliderPointsInto: Supplier<double[]>
+//				-simulate: BooleanSupplier
+//
+// Methods: +setUp(): void,
+//			+updatePosition(): double,
+//			+hasCollidedWithSurface(): boolean,
+//			+calculateColliderPoints(): double[][],
+//			+calculateColliderPointsInto(): double[],
+//			+simulate(): boolean,
+//			+createFixture(int, String, String, String, int): Function<String, Object>
+//
+//**************************************************************
+
+//Run with ./gradlew jmh, which adds the GC profiler so every result also has its allocation rate (gc.alloc.rate.norm is B/op).
+//Every combination is 324 runs per benchmark, narrow them with JMH's -p, for example -PjmhArgs="-p commandModule=mk1-command-pod".
+//The rocket itself is set up by PhysicsFixture, see there for why it lives in another class.
+
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PhysicsBenchmark {
+	
+	@Param({"0", "1", "2"}) //The Moon, Mercury and Pluto, in the order of BodyCatalog.createBodies()
+	private int body;
+	
+	@Param({"mk1-command-pod", "mk2-command-pod", "mk1-3-command-pod"})
+	private String commandModule;
+	
+	@Param({"fl-t400", "fl-tx1800", "rockomax-jumbo-64"})
+	private String fuselage;
+	
+	@Param({"f3s0-shrimp", "rt-10-hammer", "bacc-thumper", "lv-909-terrier", "lv-t91-cheetah", "re-l10-poodle"})
+	private String engine;
+	
+	@Param({"100000", "1"}) //Far from the surface, where collision checks stop early, and right above it, where they test every point
+	private int altitude;
+	
+	private DoubleSupplier updatePosition;
+	private BooleanSupplier hasCollidedWithSurface;
+	private Supplier<double[][]> calculateColliderPoints;
+	private Supplier<double[]> calculateColliderPointsInto;
+	private BooleanSupplier simulate;
+	
+	@Setup(Level.Iteration)
+	@SuppressWarnings("unchecked")
+	public void setUp() throws ReflectiveOperationException {
+		Function<String, Object> fixture = createFixture(body, commandModule, fuselage, engine, altitude);
+		updatePosition = (DoubleSupplier)fixture.apply("updatePosition");
+		hasCollidedWithSurface = (BooleanSupplier)fixture.apply("hasCollidedWithSurface");
+		calculateColliderPoints = (Supplier<double[][]>)fixture.apply("calculateColliderPoints");
+		calculateColliderPointsInto = (Supplier<double[]>)fixture.apply("calculateColliderPointsInto");
+		simulate = (BooleanSupplier)fixture.apply("simulate");
+	}
+
+	@Benchmark
+	public double updatePosition() {
+		return updatePosition.getAsDouble();
+	}
+
+	@Benchmark
+	public boolean hasCollidedWithSurface() {
+		return hasCollidedWithSurface.getAsBoolean();
+	}
+
+	@Benchmark
+	public double[][] calculateColliderPoints() {
+		return calculateColliderPoints.get();
+	}
+
+	@Benchmark
+	public double[] calculateColliderPointsInto() {
+		return calculateColliderPointsInto.get();
+	}
+
+	@Benchmark
+	public boolean simulate() {
+		return simulate.getAsBoolean();
+	}
+
+	@SuppressWarnings("unchecked")
+	public static Function<String, Object> createFixture(int body, String commandModule, String fuselage, String engine, int altitude) throws ReflectiveOperationException {
+		return (Function<String, Object>)Class.forName("PhysicsFixture")
+				.getConstructor(int.class, String.class, String.class, String.class, int.class)
+				.newInstance(body, commandModule, fuselage, engine, altitude);
+	}
+
+}
@@ -0,0 +1,62 @@
+//***************************************************************
+// Class: VelocityBenchmark
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: JMH comparison of Rocket.calculateVelocity before and after it computed everything once per step
+//
+// Attributes:  -version: String
+//				-calculateVelocity: DoubleSupplier
+//
+// Methods: +setUp(): void,
+//			+calculateVelocity(): double
+//
+//**************************************************************
+
+//Run with ./gradlew jmh -PjmhArgs="VelocityBenchmark". The rocket itself is set up by VelocityFixture.
+
+package benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VelocityBenchmark {
+	
+	@Param({"before", "after"})
+	private String version;
+	
+	private DoubleSupplier calculateVelocity;
+	
+	@Setup(Level.Iteration)
+	@SuppressWarnings("unchecked")
+	public void setUp() throws ReflectiveOperationException {
+		Function<String, Object> fixture = (Function<String, Object>)Class.forName("VelocityFixture").getConstructor().newInstance();
+		calculateVelocity = (DoubleSupplier)fixture.apply(version);
+	}
+
+	@Benchmark
+	public double calculateVelocity() {
+		return calculateVelocity.getAsDouble();
+	}
+
+}
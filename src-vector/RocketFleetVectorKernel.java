@@ -0,0 +1,97 @@
+//***************************************************************
+// Class: RocketFleetVectorKernel
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: RocketFleet's step written with the JDK Vector API, several rockets per instruction
+//
+// Attributes:  -SPECIES: VectorSpecies<Double>
+//
+// Methods: +step(RocketFleet, double, int, int): int
+//
+//**************************************************************
+
+//Kept out of src/ since it only compiles with --add-modules jdk.incubator.vector. RocketFleet loads it by name and only when
+//that module is there, so the game still builds and runs from src/ alone.
+//Each loop handles one vector of rockets with the same math as the scalar loop in RocketFleet.step(), landed rockets are
+//masked out of every store. Only the rockets whose bounding circle reaches the surface go through the (scalar) hull check.
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+public class RocketFleetVectorKernel implements RocketFleet.StepKernel {
+	
+	private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+	
+	@Override
+	public int step(RocketFleet fleet, double timeStep, int fromIndex, int toIndex) {
+		double[] xPositions = fleet.getXPositions();
+		double[] yPositions = fleet.getYPositions();
+		double[] xVelocities = fleet.getXVelocities();
+		double[] yVelocities = fleet.getYVelocities();
+		double[] rotationAngles = fleet.getRotationAngles();
+		double[] queuedRotationAngles = fleet.getQueuedRotationAngles();
+		double[] fuelLevels = fleet.getFuelLevels();
+		double[] thrustPercents = fleet.getThrustPercents();
+		double[] masses = fleet.getMasses();
+		double[] maxThrusts = fleet.getMaxThrusts();
+		double[] depletionRates = fleet.getDepletionRates();
+		double[] boundingRadii = fleet.getBoundingRadii();
+		boolean[] landed = fleet.getLanded();
+		
+		DoubleVector gravitationalParameter = DoubleVector.broadcast(SPECIES, fleet.getGravitationalParameter());
+		DoubleVector bodyRadius = DoubleVector.broadcast(SPECIES, fleet.getBodyRadius());
+		DoubleVector halfPi = DoubleVector.broadcast(SPECIES, Math.PI / 2);
+		DoubleVector one = DoubleVector.broadcast(SPECIES, 1);
+		DoubleVector zero = DoubleVector.zero(SPECIES);
+		
+		int end = fromIndex + SPECIES.loopBound(toIndex - fromIndex);
+		for(int i = fromIndex; i < end; i += SPECIES.length()) {
+			VectorMask<Double> flying = VectorMask.fromArray(SPECIES, landed, i).not();
+			if(!flying.anyTrue()) {
+				continue;
+			}
+
+			DoubleVector x = DoubleVector.fromArray(SPECIES, xPositions, i);
+			DoubleVector y = DoubleVector.fromArray(SPECIES, yPositions, i);
+			DoubleVector distanceSquared = x.mul(x).add(y.mul(y));
+			DoubleVector inverseDistance = one.div(distanceSquared.lanewise(VectorOperators.SQRT));
+			DoubleVector gravity = gravitationalParameter.div(distanceSquared);
+			
+			DoubleVector fuel = DoubleVector.fromArray(SPECIES, fuelLevels, i);
+			DoubleVector thrustPercent = DoubleVector.fromArray(SPECIES, thrustPercents, i);
+			DoubleVector thrust = DoubleVector.fromArray(SPECIES, maxThrusts, i).mul(thrustPercent).div(DoubleVector.fromArray(SPECIES, masses, i))
+					.blend(zero, fuel.compare(VectorOperators.LE, 0));
+			DoubleVector rotation = DoubleVector.fromArray(SPECIES, rotationAngles, i);
+			
+			DoubleVector xVelocity = DoubleVector.fromArray(SPECIES, xVelocities, i)
+					.sub(gravity.mul(x).mul(inverseDistance).sub(thrust.mul(rotation.lanewise(VectorOperators.COS))).mul(timeStep));
+			DoubleVector yVelocity = DoubleVector.fromArray(SPECIES, yVelocities, i)
+					.sub(gravity.mul(y).mul(inverseDistance).sub(thrust.mul(rotation.lanewise(VectorOperators.SIN))).mul(timeStep));
+			x = x.add(xVelocity.mul(timeStep));
+			y = y.add(yVelocity.mul(timeStep));
+			
+			x.intoArray(xPositions, i, flying);
+			y.intoArray(yPositions, i, flying);
+			xVelocity.intoArray(xVelocities, i, flying);
+			yVelocity.intoArray(yVelocities, i, flying);
+			fuel.sub(DoubleVector.fromArray(SPECIES, depletionRates, i).mul(timeStep).mul(thrustPercent)).max(zero).intoArray(fuelLevels, i, flying);
+			DoubleVector.fromArray(SPECIES, queuedRotationAngles, i).add(y.lanewise(VectorOperators.ATAN2, x)).sub(halfPi).intoArray(rotationAngles, i, flying);
+			
+			//Broad phase for the whole vector, the few rockets that pass it get the hull check
+			VectorMask<Double> near = x.mul(x).add(y.mul(y)).lanewise(VectorOperators.SQRT).sub(bodyRadius)
+					.sub(DoubleVector.fromArray(SPECIES, boundingRadii, i)).compare(VectorOperators.LE, 0).and(flying);
+			if(near.anyTrue()) {
+				for(int lane = 0; lane < SPECIES.length(); lane++) {
+					if(near.laneIsSet(lane)) {
+						landed[i + lane] = fleet.hasHullCollided(i + lane);
+					}
+				}
+			}
+		}
+		return end;
+	}
+
+}
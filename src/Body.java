@@ -1,7 +1,7 @@
 //***************************************************************
 // Class: Body
 // Author: Monstroe
-// Modified: 4/22/2022
+// Modified: 10/18/2026
 //
 // Purpose: Contains the attributes of a planetary body.
 //
@@ -29,7 +29,7 @@ public class Body {
 	private Color color = Color.WHITE;
 	
 	public void recalculateMass() {
-		mass = surfaceGravity * Math.pow(radius, 2) / gravitationalConstant;
+		mass = surfaceGravity * radius * radius / gravitationalConstant;
 	}
 	
 	public void recalculateRadius() {
@@ -37,7 +37,7 @@ public class Body {
 	}
 	
 	public void recalculateSurfaceGravity() {
-		surfaceGravity = gravitationalConstant * mass / Math.pow(radius, 2);
+		surfaceGravity = gravitationalConstant * mass / (radius * radius);
 	}
 	
 	//Getters/Setters
@@ -0,0 +1,44 @@
+//***************************************************************
+// Class: BodyCatalog
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Builds the list of bodies the player can land on (usable without a GUI)
+//
+// Attributes:
+//
+// Methods: +createBodies(): List<Body>
+//
+//**************************************************************
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.scene.paint.Color;
+
+public class BodyCatalog {
+	
+	//Order matches the radio buttons in MenuPane
+	public static List<Body> createBodies() {
+		List<Body> bodies = new ArrayList<>();
+		
+		Body moon = new Body();
+		moon.setMass(0.07346 * Math.pow(10, 24));
+		moon.setRadius(1737.4 * 1000);
+		moon.setColor(Color.DARKGRAY);
+		Body mercury = new Body();
+		mercury.setMass(0.33010 * Math.pow(10, 24));
+		mercury.setRadius(2439.7 * 1000);
+		mercury.setColor(Color.GRAY);
+		Body pluto = new Body();
+		pluto.setMass(0.01303 * Math.pow(10, 24));
+		pluto.setRadius(1188 * 1000);
+		pluto.setColor(Color.DARKGRAY);
+		
+		bodies.add(moon);
+		bodies.add(mercury);
+		bodies.add(pluto);
+		return bodies;
+	}
+
+}
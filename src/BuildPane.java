@@ -1,13 +1,14 @@
 //***************************************************************
 // Class: BuildPane
 // Author: Monstroe
-// Modified: 4/22/2022
+// Modified: 10/18/2026
 //
 // Purpose: Pane responsible for the building of rockets
 //
 // Attributes:	-landingSim: LSGUI
 //				-rocketDisplayScale: double
-//				-savedRockets: File
+//				-persistence: PersistenceService
+//				-userRocketCursor: RocketDesignCursor
 //				-commandModules: List<CommandModule>
 //				-fuselages: List<Fuselage>
 //				-engines: List<Engine>
@@ -17,52 +18,52 @@
 //			+displayUpdatedStats(): void,
 //			+displayRocketImage(): void,
 //			+saveRocket(): boolean,
-//			+isDuplicateRocket(String[]): boolean,
-//			+loadRocket(String[][], int): void,
-//			+deleteRocket(int): void,
+//			+loadRocket(RocketDesign): void,
+//			+deleteRocket(RocketDesign): void,
 //			+switchToRocketDisplay(): void,
 //			+switchToUserRockets(): void,
-//			+readData(): String[][],
-//			+writeData(String[], boolean): void,
-//			+deleteData(int): void,
+//			+showUserRockets(String): void,
+//			-loadUserRockets(): void,
+//			-createPartOptions(List<PartDefinition>, ToggleGroup): List<RadioButton>,
 //			+initialize(): void
 //
 //**************************************************************
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileNotFoundException;
-import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.PrintWriter;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
+import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
 import javafx.beans.value.ObservableValue;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
 import javafx.scene.control.RadioButton;
 import javafx.scene.control.TextField;
 import javafx.scene.control.ToggleGroup;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Rectangle;
 
 public class BuildPane extends BorderPane {
 	
+	private static final int USER_ROCKET_PAGE = 100; //Saved rockets fetched at a time by the rocket browser
+	private static final int USER_ROCKET_PREFETCH = 20; //Rows from the end of the list at which the next page is fetched
+	
 	private LSGUI landingSim;
 	private double rocketDisplayScale = 5;
 	
-	private File savedRockets;
+	private PersistenceService persistence; //Saved rockets, never read or written on the FX thread
+	private RocketDesignCursor userRocketCursor; //Pages of the rocket browser's current search
+	private boolean loadingUserRockets = false;
 	
 	private List<CommandModule> commandModules;
 	private List<Fuselage> fuselages;
@@ -83,6 +84,8 @@ public class BuildPane extends BorderPane {
 	private ToggleGroup engineToggleGroup;
 	
 	private TextField tfName;
+	private TextField tfSearch;
+	private ListView<RocketDesign> lvUserRockets;
 	
 	private Label lblMass;
 	private Label lblThrust;
@@ -95,7 +98,7 @@ public class BuildPane extends BorderPane {
 	
 	public BuildPane(LSGUI lsGUI) {
 		landingSim = lsGUI;
-		savedRockets = new File("SavedRockets.txt");
+		persistence = new PersistenceService(new RocketDesignStore(new File("SavedRockets.txt")), Platform::runLater);
 		setStyle("-fx-background-color: black");
 	}
 	
@@ -149,158 +152,102 @@ public class BuildPane extends BorderPane {
 	public boolean saveRocket() {
 		boolean success = false;
 		if(!tfName.getText().isEmpty()) {
-			String[] newRocket = new String[4];
-			newRocket[0] = tfName.getText();
-			newRocket[1] = "" + commandModuleToggleGroup.getToggles().indexOf(commandModuleToggleGroup.getSelectedToggle());
-			newRocket[2] = "" + fuselageToggleGroup.getToggles().indexOf(fuselageToggleGroup.getSelectedToggle());
-			newRocket[3] = "" + engineToggleGroup.getToggles().indexOf(engineToggleGroup.getSelectedToggle());
+			RocketDesign newRocket = new RocketDesign(tfName.getText(),
+					(String)commandModuleToggleGroup.getSelectedToggle().getUserData(),
+					(String)fuselageToggleGroup.getSelectedToggle().getUserData(),
+					(String)engineToggleGroup.getSelectedToggle().getUserData());
 			
-			if(!isDuplicateRocket(newRocket)) {
-				writeData(newRocket, true);
-			}
+			persistence.save(newRocket).whenComplete((saved, error) -> { //Does nothing if the exact same rocket is already saved
+				if(error != null) {
+					System.out.println("Unable to save '" + newRocket.getName() + "'.");
+					error.printStackTrace();
+				}
+			});
 			success = true;
 		}
 		return success;
 	}
 	
-	public boolean isDuplicateRocket(String[] newRocket) {
-		boolean duplicate = false;
-		String[][] userData = readData();
-		
-		if(userData != null) {
-			for(int i = 0; i < userData.length; i++) {
-				if(Arrays.equals(newRocket, userData[i])) {
-					duplicate = true;
-					break;
-				}
-			}
+	public void loadRocket(RocketDesign design) {
+		PartCatalog catalog = PartCatalog.getDefault();
+		int commandModuleIndex = catalog.getCommandModules().indexOf(catalog.get(design.getCommandModule())); //-1 if missing or the wrong kind of part
+		int fuselageIndex = catalog.getFuselages().indexOf(catalog.get(design.getFuselage()));
+		int engineIndex = catalog.getEngines().indexOf(catalog.get(design.getEngine()));
+		if(commandModuleIndex < 0 || fuselageIndex < 0 || engineIndex < 0) {
+			System.out.println("'" + design.getName() + "' uses a part that is no longer in the catalog.");
+			return;
 		}
-		return duplicate;
-	}
-
-	public void loadRocket(String[][] userData, int index) {
-		tfName.setText(userData[index][0]);
-		commandModuleToggleGroup.selectToggle(commandModuleToggleGroup.getToggles().get(Integer.parseInt(userData[index][1])));
-		fuselageToggleGroup.selectToggle(fuselageToggleGroup.getToggles().get(Integer.parseInt(userData[index][2])));
-		engineToggleGroup.selectToggle(engineToggleGroup.getToggles().get(Integer.parseInt(userData[index][3])));
+		
+		tfName.setText(design.getName());
+		commandModuleToggleGroup.selectToggle(commandModuleOptions.get(commandModuleIndex));
+		fuselageToggleGroup.selectToggle(fuselageOptions.get(fuselageIndex));
+		engineToggleGroup.selectToggle(engineOptions.get(engineIndex));
 		
 		updateStats();
 		switchToRocketDisplay();
 	}
 	
-	public void deleteRocket(int index) {
-		deleteData(index);
-		switchToRocketDisplay();
+	public void deleteRocket(RocketDesign design) {
+		persistence.delete(design).whenComplete((deleted, error) -> {
+			if(error != null) {
+				System.out.println("Unable to delete '" + design.getName() + "'.");
+				error.printStackTrace();
+			}
+		});
+		lvUserRockets.getItems().remove(design);
 	}
 	
 	public void switchToRocketDisplay() {
 		this.setCenter(rocketDisplay);
-		
-		while(userRockets.getChildren().size() > 2) {
-			userRockets.getChildren().remove(1);
-		}
+		userRocketCursor = null; //Pages still loading are thrown away
+		lvUserRockets.getItems().clear();
 	}
 	
 	public void switchToUserRockets() {
-		String[][] userData = readData();
-		
-		if(userData != null) {
-			RadioButton[] userRocketOptions = new RadioButton[userData.length];
-			ToggleGroup userRocketToggleGroup = new ToggleGroup();
-			
-			for(int i = 0; i < userRocketOptions.length; i++) {
-				userRocketOptions[i] = new RadioButton(userData[i][0]);
-				userRocketOptions[i].setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
-				userRocketOptions[i].setToggleGroup(userRocketToggleGroup);
-				userRockets.getChildren().add(i+1, userRocketOptions[i]);
-			}
-			userRocketToggleGroup.selectToggle(userRocketOptions[0]);
-			
-			Button load = new Button("Load");
-			Button delete = new Button("Delete");
-			
-			userRockets.getChildren().add(userRockets.getChildren().size() - 1, load);
-			userRockets.getChildren().add(userRockets.getChildren().size() - 1, delete);
-			
-			load.setOnAction(e -> loadRocket(userData, userRocketToggleGroup.getToggles().indexOf(userRocketToggleGroup.getSelectedToggle())));
-			delete.setOnAction(e -> deleteRocket(userRocketToggleGroup.getToggles().indexOf(userRocketToggleGroup.getSelectedToggle())));
-			
-			this.setCenter(userRockets);
+		if(tfSearch.getText().isEmpty()) {
+			showUserRockets("");
 		}
-		
+		else {
+			tfSearch.setText(""); //Shows them through the search listener
+		}
+		this.setCenter(userRockets);
 	}
 	
-	private String[][] readData() {
-		String[][] data = null;
-		try {
-			FileReader fr = new FileReader(savedRockets);
-			BufferedReader br = new BufferedReader(fr);
-			List<String[]> lines = new ArrayList<String[]>();
-			String line;
+	//Starts the list over with the saved rockets whose name starts with 'prefix', only the first page is fetched now
+	public void showUserRockets(String prefix) {
+		userRocketCursor = new RocketDesignCursor(persistence.getStore(), prefix);
+		lvUserRockets.getItems().clear();
+		loadUserRockets();
+	}
 			
-			while( (line = br.readLine()) != null) {
-				String[] lineColumns;
-				lineColumns = line.split(",");
-				lines.add(lineColumns);
+	//Fetches the next page off the FX thread. The list only has cells for the visible rows, and those ask for more near the end.
+	private void loadUserRockets() {
+		RocketDesignCursor cursor = userRocketCursor;
+		if(loadingUserRockets || cursor == null || cursor.isExhausted()) {
+			return;
+		}
+		loadingUserRockets = true;
+		persistence.page(cursor, USER_ROCKET_PAGE).whenComplete((page, error) -> {
+			loadingUserRockets = false;
+			if(error != null) {
+				System.out.println("Unable to load saved rockets.");
+				error.printStackTrace();
 			}
-			
-			if(lines.size() > 0) {
-				data = new String[lines.size()][lines.get(0).length];
-				for(int i = 0; i < data.length; i++) {
-					data[i] = lines.get(i);
+			else if(cursor == userRocketCursor) {
+				lvUserRockets.getItems().addAll(page);
+				if(lvUserRockets.getSelectionModel().isEmpty() && !lvUserRockets.getItems().isEmpty()) {
+					lvUserRockets.getSelectionModel().select(0);
 				}
 			}
-			
-			br.close();
-		} catch (FileNotFoundException e) {
-			System.out.println("The file 'SavedRockets.txt cannot be found in the current directory.\n"
-							+  "Creating new file now...");
-			try {
-				savedRockets.createNewFile();
-			} catch (IOException e1) {
-				System.out.println("Unable to create new file 'SavedRockets.txt'.");
-				e1.printStackTrace();
-			}
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
-		
-		return data;
-	}
-
-	private void writeData(String[] data, boolean append) {
-		try {
-			FileWriter fw = new FileWriter(savedRockets, append);
-			PrintWriter pw = new PrintWriter(fw);
-			
-			String line = "";
-			for(int i = 0; i < data.length - 1; i++) {
-				line += data[i] + ",";
-			}
-			line += data[data.length-1];
-			
-			pw.println(line);
-			
-			pw.close();
-		} catch (IOException e) {
-			e.printStackTrace();
-		} catch(NullPointerException e) {
-			//'deleteData' writes 'null' to the file to wipe it, and this catches the subsequent error thrown
-		}
-	}
-	
-	private void deleteData(int index) {
-		String[][] userData = readData();
-		writeData(null, false);
-		for(int i = 0; i < userData.length; i++) {
-			if(i != index) {
-				writeData(userData[i], true);
+			else {
+				loadUserRockets(); //The search changed while this page was loading
 			}
-		}
+		});
 	}
 	
 	//Initialization Methods
 	public void initialize() {
+		persistence.load(); //Anything asked of it before this finishes waits behind it on the I/O thread
 		initializePartLists();
 		initializeToolbox();
 		initializeStatChart();
@@ -320,11 +267,49 @@ public class BuildPane extends BorderPane {
 		Label lblRockets = new Label("Your Rockets");
 		lblRockets.setStyle("-fx-font: 18 Roboto; -fx-text-fill: white");
 		
+		tfSearch = new TextField();
+		tfSearch.setPromptText("Search by name");
+		tfSearch.textProperty().addListener((observable, oldValue, newValue) -> showUserRockets(newValue));
+		
+		lvUserRockets = new ListView<>();
+		lvUserRockets.setPlaceholder(new Label("No saved rockets"));
+		lvUserRockets.setCellFactory(list -> new ListCell<RocketDesign>() {
+			@Override
+			protected void updateItem(RocketDesign design, boolean empty) {
+				super.updateItem(design, empty);
+				setText(empty || design == null ? null : design.getName());
+				if(!empty && getIndex() >= lvUserRockets.getItems().size() - USER_ROCKET_PREFETCH) {
+					loadUserRockets();
+				}
+			}
+		});
+		VBox.setVgrow(lvUserRockets, Priority.ALWAYS);
+		
+		HBox buttons = new HBox(5);
+		Button load = new Button("Load");
+		Button delete = new Button("Delete");
 		Button back = new Button("Back");
+		load.setOnAction(e -> {
+			RocketDesign design = lvUserRockets.getSelectionModel().getSelectedItem();
+			if(design != null) {
+				loadRocket(design);
+			}
+		});
+		delete.setOnAction(e -> {
+			RocketDesign design = lvUserRockets.getSelectionModel().getSelectedItem();
+			if(design != null) {
+				deleteRocket(design);
+			}
+		});
 		back.setOnAction(e -> switchToRocketDisplay());
+		buttons.getChildren().add(load);
+		buttons.getChildren().add(delete);
+		buttons.getChildren().add(back);
 		
 		userRockets.getChildren().add(lblRockets);
-		userRockets.getChildren().add(back);
+		userRockets.getChildren().add(tfSearch);
+		userRockets.getChildren().add(lvUserRockets);
+		userRockets.getChildren().add(buttons);
 	}
 	
 	private void initializeRocketDisplay() {
@@ -452,116 +437,47 @@ public class BuildPane extends BorderPane {
 		lblCommandModule.setStyle("-fx-font: 14 Roboto; -fx-text-fill: white");
 		lblFuselage.setStyle("-fx-font: 14 Roboto; -fx-text-fill: white");
 		lblEngine.setStyle("-fx-font: 14 Roboto; -fx-text-fill: white");
-		//Command Module Radio Buttons
-		RadioButton c0 = new RadioButton(commandModules.get(0).getName());
-		RadioButton c1 = new RadioButton(commandModules.get(1).getName());
-		RadioButton c2 = new RadioButton(commandModules.get(2).getName());
-		c0.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
-		c1.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
-		c2.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
+		//Radio Buttons, one per part in catalog order, holding the part's id
+		PartCatalog catalog = PartCatalog.getDefault();
 		commandModuleToggleGroup = new ToggleGroup();
-		c0.setToggleGroup(commandModuleToggleGroup);
-		c1.setToggleGroup(commandModuleToggleGroup);
-		c2.setToggleGroup(commandModuleToggleGroup);
-		commandModuleToggleGroup.selectToggle(c0);
-		commandModuleToggleGroup.selectedToggleProperty().addListener((observable, oldVal, newVal) -> updateStats());
-		//Fuselage Radio Buttons
-		RadioButton f0 = new RadioButton(fuselages.get(0).getName());
-		RadioButton f1 = new RadioButton(fuselages.get(1).getName());
-		RadioButton f2 = new RadioButton(fuselages.get(2).getName());
-		f0.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
-		f1.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
-		f2.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
+		commandModuleOptions = createPartOptions(catalog.getCommandModules(), commandModuleToggleGroup);
 		fuselageToggleGroup = new ToggleGroup();
-		f0.setToggleGroup(fuselageToggleGroup);
-		f1.setToggleGroup(fuselageToggleGroup);
-		f2.setToggleGroup(fuselageToggleGroup);
-		fuselageToggleGroup.selectToggle(f0);
-		fuselageToggleGroup.selectedToggleProperty().addListener((observable, oldVal, newVal) -> updateStats());
-		//Engine Radio Buttons
-		RadioButton e0 = new RadioButton(engines.get(0).getName());
-		RadioButton e1 = new RadioButton(engines.get(1).getName());
-		RadioButton e2 = new RadioButton(engines.get(2).getName());
-		RadioButton e3 = new RadioButton(engines.get(3).getName());
-		RadioButton e4 = new RadioButton(engines.get(4).getName());
-		RadioButton e5 = new RadioButton(engines.get(5).getName());
-		e0.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
-		e1.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
-		e2.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
-		e3.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
-		e4.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
-		e5.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
+		fuselageOptions = createPartOptions(catalog.getFuselages(), fuselageToggleGroup);
 		engineToggleGroup = new ToggleGroup();
-		e0.setToggleGroup(engineToggleGroup);
-		e1.setToggleGroup(engineToggleGroup);
-		e2.setToggleGroup(engineToggleGroup);
-		e3.setToggleGroup(engineToggleGroup);
-		e4.setToggleGroup(engineToggleGroup);
-		e5.setToggleGroup(engineToggleGroup);
-		engineToggleGroup.selectToggle(e0);
-		engineToggleGroup.selectedToggleProperty().addListener((observable, oldVal, newVal) -> updateStats());
-		
-		//Add Radio Buttons to Lists
-		commandModuleOptions = new ArrayList<RadioButton>();
-		commandModuleOptions.add(c0);
-		commandModuleOptions.add(c1);
-		commandModuleOptions.add(c2);
-		fuselageOptions = new ArrayList<RadioButton>();
-		fuselageOptions.add(f0);
-		fuselageOptions.add(f1);
-		fuselageOptions.add(f2);
-		engineOptions = new ArrayList<RadioButton>();
-		engineOptions.add(e0);
-		engineOptions.add(e1);
-		engineOptions.add(e2);
-		engineOptions.add(e3);
-		engineOptions.add(e4);
-		engineOptions.add(e5);
+		engineOptions = createPartOptions(catalog.getEngines(), engineToggleGroup);
 		
 		toolBox.getChildren().add(lblTitle);
 		
 		toolBox.getChildren().add(lblCommandModule);
-		toolBox.getChildren().add(c0);
-		toolBox.getChildren().add(c1);
-		toolBox.getChildren().add(c2);
+		toolBox.getChildren().addAll(commandModuleOptions);
 		
 		toolBox.getChildren().add(lblFuselage);
-		toolBox.getChildren().add(f0);
-		toolBox.getChildren().add(f1);
-		toolBox.getChildren().add(f2);
+		toolBox.getChildren().addAll(fuselageOptions);
 		
 		toolBox.getChildren().add(lblEngine);
-		toolBox.getChildren().add(e0);
-		toolBox.getChildren().add(e1);
-		toolBox.getChildren().add(e2);
-		toolBox.getChildren().add(e3);
-		toolBox.getChildren().add(e4);
-		toolBox.getChildren().add(e5);
+		toolBox.getChildren().addAll(engineOptions);
 		
 		this.setRight(toolBox);
 	}
 	
+	private List<RadioButton> createPartOptions(List<PartDefinition> parts, ToggleGroup toggleGroup) {
+		List<RadioButton> options = new ArrayList<RadioButton>();
+		for(PartDefinition part : parts) {
+			RadioButton option = new RadioButton(part.getName());
+			option.setStyle("-fx-font: 12 Roboto; -fx-text-fill: white");
+			option.setUserData(part.getId());
+			option.setToggleGroup(toggleGroup);
+			options.add(option);
+		}
+		toggleGroup.selectToggle(options.get(0));
+		toggleGroup.selectedToggleProperty().addListener((observable, oldVal, newVal) -> updateStats());
+		return options;
+	}
+
 	private void initializePartLists() {
-		//COMMAND MODULES
-		commandModules = new ArrayList<>();
-		commandModules.add(new CommandModule(860, 12.5, 12.5, "Mk1 Command Pod", Color.DARKGRAY, 100));
-		commandModules.add(new CommandModule(1560, 18.75, 18.75, "Mk2 Command Pod", Color.DARKTURQUOISE ,75));
-		commandModules.add(new CommandModule(2720, 25, 25, "Mk1-3 Command Pod", Color.WHITE ,50));
-		
-		//FUSELAGES
-		fuselages = new ArrayList<>();
-		fuselages.add(new Fuselage(2250, 12.5, 25, "FL-T400 Fuel Tank", Color.BEIGE, 1000, 4));
-		fuselages.add(new Fuselage(2250, 18.75, 37.5, "FL-TX1800 Fuel Tank", Color.DARKSLATEGRAY, 10000, 4));
-		fuselages.add(new Fuselage(36000, 25, 50, "Rockomax Jumbo-64 Fuel Tank", Color.ORANGE, 100000, 4));
-		
-		//ENGINES
-		engines = new ArrayList<>();
-		engines.add(new SolidEngine(520, 12.5, 06.25, "F3S0 \"Shrimp\" Solid Fuel Engine", Color.PAPAYAWHIP, 74500));
-		engines.add(new SolidEngine(1200, 18.75, 09.375, "RT-10 \"Hammer\" Solid Fuel Engine", Color.WHITESMOKE, 157900));
-		engines.add(new SolidEngine(1500, 25, 12.5, "BACC \"Thumper\" Solid Fuel Engine", Color.DARKGRAY, 300000));
-		engines.add(new LiquidEngine(500, 12.5, 06.25, "LV-909 \"Terrier\" Liquid Fuel Engine", Color.ORANGERED, 60000));
-		engines.add(new LiquidEngine(1000, 18.75, 09.375, "LV-T91 \"Cheetah\" Liquid Fuel Engine", Color.CRIMSON, 1250000));
-		engines.add(new LiquidEngine(1750, 25, 12.5, "RE-L10 \"Poodle\" Liquid Fuel Engine", Color.SLATEGRAY, 250000));
+		commandModules = PartCatalog.createCommandModules();
+		fuselages = PartCatalog.createFuselages();
+		engines = PartCatalog.createEngines();
 	}
 
 	//Getters/Setters
@@ -589,4 +505,8 @@ public class BuildPane extends BorderPane {
 		this.engines = engines;
 	}
 	
+	public PersistenceService getPersistence() {
+		return persistence;
+	}
+
 }
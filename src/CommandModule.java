@@ -1,13 +1,13 @@
 //***************************************************************
 // Class: CommandModule
 // Author: Monstroe
-// Modified: 4/08/2022
+// Modified: 10/18/2026
 //
 // Purpose: Controls the rotation speed of the rocket
 //
 // Attributes:  -rotationSpeed: double
 // 
-// Methods: 
+// Methods: +copy(): CommandModule
 //
 //**************************************************************
 
@@ -27,6 +27,10 @@ public class CommandModule extends Part {
 		rotationSpeed = newRotationSpeed;
 	}
 
+	public CommandModule copy() { //Independent instance for simulations that run in parallel
+		return new CommandModule(getMass(), getWidth(), getHeight(), getName(), getColor(), rotationSpeed);
+	}
+
 	//Getters/Setters
 	public double getRotationSpeed() {
 		return rotationSpeed;
@@ -0,0 +1,103 @@
+//***************************************************************
+// Class: ControlQueue
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Bounded lock-free ring buffer of player controls, written by one thread (input) and read by one (simulation)
+//
+// Attributes:  -capacity: int
+//				-types: ControlType[]
+//				-values: double[]
+//				-head: AtomicLong
+//				-tail: AtomicLong
+//				-cachedHead: long
+//				-cachedTail: long
+//
+// Methods: +offer(ControlType, double): boolean,
+//			+isEmpty(): boolean,
+//			+peekType(): ControlType,
+//			+peekValue(): double,
+//			+remove(): void,
+//			+clear(): void,
+//			+size(): int
+//
+//**************************************************************
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ControlQueue {
+	
+	private final int capacity;
+	private final int mask;
+	private final ControlType[] types;
+	private final double[] values;
+	
+	private final AtomicLong head = new AtomicLong(); //Next slot to read, only the consumer moves it
+	private final AtomicLong tail = new AtomicLong(); //Next slot to write, only the producer moves it
+	
+	//Each side's last look at the other side's counter, so the shared counters are only read when the queue looks full or empty
+	private long cachedHead = 0; //Producer only
+	private long cachedTail = 0; //Consumer only
+	
+	public ControlQueue(int newCapacity) { //Rounded up to a power of two
+		capacity = Integer.highestOneBit(Math.max(1, newCapacity - 1)) << 1;
+		mask = capacity - 1;
+		types = new ControlType[capacity];
+		values = new double[capacity];
+	}
+
+	//Producer side; returns false if the queue is full and the control was dropped
+	public boolean offer(ControlType type, double value) {
+		long currentTail = tail.get();
+		if(currentTail - cachedHead >= capacity) {
+			cachedHead = head.getAcquire();
+			if(currentTail - cachedHead >= capacity) {
+				return false;
+			}
+		}
+		int index = (int)currentTail & mask;
+		types[index] = type;
+		values[index] = value;
+		tail.setRelease(currentTail + 1); //Publishes the slot written above
+		return true;
+	}
+
+	//Consumer side, peek at the oldest control and remove() it once it has been applied
+	public boolean isEmpty() {
+		long currentHead = head.get();
+		if(currentHead == cachedTail) {
+			cachedTail = tail.getAcquire();
+		}
+		return currentHead == cachedTail;
+	}
+
+	public ControlType peekType() {
+		return types[(int)head.get() & mask];
+	}
+
+	public double peekValue() {
+		return values[(int)head.get() & mask];
+	}
+
+	public void remove() {
+		long currentHead = head.get();
+		types[(int)currentHead & mask] = null;
+		head.setRelease(currentHead + 1); //Hands the slot back to the producer
+	}
+
+	public void clear() { //Consumer side
+		while(!isEmpty()) {
+			remove();
+		}
+	}
+
+	public int size() {
+		return (int)(tail.getAcquire() - head.getAcquire());
+	}
+
+	//Getters
+	public int getCapacity() {
+		return capacity;
+	}
+
+}
@@ -0,0 +1,87 @@
+//***************************************************************
+// Class: ControlSchedule
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Scripted throttle/attitude inputs used to fly a rocket without a player
+//
+// Attributes:  -keyframeTimes: double[]
+//				-keyframeThrottles: double[]
+//				-keyframeRotations: double[]
+//
+// Methods: +apply(Rocket, double, double): void,
+//			-applyThrottle(Engine, double): void,
+//			-applyRotation(Rocket, double, double): void
+//
+//**************************************************************
+
+public class ControlSchedule {
+	
+	//Keyframe i is held from keyframeTimes[i] until keyframeTimes[i+1]
+	private double[] keyframeTimes;
+	private double[] keyframeThrottles; //0.0 to 1.0
+	private double[] keyframeRotations; //Queued rotation in degrees (0 is retrograde at the start of the simulation)
+	
+	public ControlSchedule(double[] newKeyframeTimes, double[] newKeyframeThrottles, double[] newKeyframeRotations) {
+		if(newKeyframeTimes.length != newKeyframeThrottles.length || newKeyframeTimes.length != newKeyframeRotations.length) {
+			throw new IllegalArgumentException("Every keyframe needs a time, a throttle and a rotation.");
+		}
+		keyframeTimes = newKeyframeTimes;
+		keyframeThrottles = newKeyframeThrottles;
+		keyframeRotations = newKeyframeRotations;
+	}
+
+	public void apply(Rocket rocket, double simulationTime, double timeStep) { //Call once before every simulation step
+		int keyframe = -1;
+		for(int i = 0; i < keyframeTimes.length && keyframeTimes[i] <= simulationTime; i++) {
+			keyframe = i;
+		}
+
+		if(keyframe >= 0) {
+			applyThrottle(rocket.getEngine(), keyframeThrottles[keyframe]);
+			applyRotation(rocket, keyframeRotations[keyframe], rocket.getCommandModule().getRotationSpeed() * timeStep);
+		}
+	}
+
+	private void applyThrottle(Engine engine, double throttle) {
+		if(throttle > 0) {
+			if(engine.getThrustPercent() == 0) {
+				engine.activate();
+			}
+			if(engine.isThrottleable() && engine.getThrustPercent() != throttle) {
+				engine.throttle(throttle - engine.getThrustPercent());
+			}
+		}
+		else if(engine.isThrottleable() && engine.getThrustPercent() != 0) {
+			engine.deactivate();
+		}
+	}
+
+	private void applyRotation(Rocket rocket, double rotation, double maxChange) { //Turns at most as fast as the player could
+		double change = rotation - rocket.getQueuedRotationAngleInDegrees();
+		if(change > 180) {
+			change -= 360;
+		}
+		else if(change < -180) {
+			change += 360;
+		}
+
+		if(change != 0) {
+			rocket.rotate(Math.max(-maxChange, Math.min(maxChange, change)));
+		}
+	}
+
+	//Getters/Setters
+	public double[] getKeyframeTimes() {
+		return keyframeTimes;
+	}
+
+	public double[] getKeyframeThrottles() {
+		return keyframeThrottles;
+	}
+
+	public double[] getKeyframeRotations() {
+		return keyframeRotations;
+	}
+
+}
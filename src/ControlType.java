@@ -0,0 +1,15 @@
+//***************************************************************
+// Class: ControlType
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Kinds of player control, queued by the FX thread and applied by the simulation
+//
+//**************************************************************
+
+public enum ControlType {
+	ROTATE, //Value is the change in degrees
+	THROTTLE, //Value is the change in thrust percent (0 to 1)
+	ACTIVATE,
+	DEACTIVATE
+}
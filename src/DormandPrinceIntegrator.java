@@ -0,0 +1,196 @@
+//***************************************************************
+// Class: DormandPrinceIntegrator
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Adaptive Runge-Kutta 5(4) step; splits a (large) time step into as few substeps as the
+//			error tolerance allows, and shortens them as the rocket closes in on the surface
+//
+// Attributes:  -positionTolerance: double
+//				-velocityTolerance: double
+//				-minSubstep: double
+//				-touchdownFraction: double
+//				-lastSubstep: double
+//				-forceEvaluations: long
+//				-substeps: long
+//				-rejectedSubsteps: long
+//
+// Methods: +integrate(Rocket, double): void,
+//			-evaluateStage(Rocket, int, double, double, double, double, double[]): void,
+//			-limitForTouchdown(Rocket, double, double, double, double, double): double,
+//			+getForceEvaluations(): long
+//
+//**************************************************************
+
+public class DormandPrinceIntegrator implements Integrator {
+	
+	//Butcher tableau
+	private static final double[][] A = {
+			{},
+			{1.0 / 5},
+			{3.0 / 40, 9.0 / 40},
+			{44.0 / 45, -56.0 / 15, 32.0 / 9},
+			{19372.0 / 6561, -25360.0 / 2187, 64448.0 / 6561, -212.0 / 729},
+			{9017.0 / 3168, -355.0 / 33, 46732.0 / 5247, 49.0 / 176, -5103.0 / 18656},
+			{35.0 / 384, 0, 500.0 / 1113, 125.0 / 192, -2187.0 / 6784, 11.0 / 84}
+	};
+	//Fifth order solution minus the embedded fourth order solution
+	private static final double[] ERROR = {71.0 / 57600, 0, -71.0 / 16695, 71.0 / 1920, -17253.0 / 339200, 22.0 / 525, -1.0 / 40};
+	
+	private double positionTolerance = 1e-3; //m
+	private double velocityTolerance = 1e-5; //m/s
+	private double minSubstep = 1e-4; //s
+	private double touchdownFraction = 0.1; //Largest substep as a fraction of the time left until the surface is reached
+	
+	private double lastSubstep = Double.POSITIVE_INFINITY; //Suggested size carried over to the next call
+	
+	private long forceEvaluations = 0;
+	private long substeps = 0;
+	private long rejectedSubsteps = 0;
+	
+	//Stage derivatives of x, y, xVelocity and yVelocity
+	private final double[] kx = new double[7];
+	private final double[] ky = new double[7];
+	private final double[] kxVelocity = new double[7];
+	private final double[] kyVelocity = new double[7];
+	
+	private final double[] thrust = new double[2];
+	private final double[] acceleration = new double[2];
+	
+	@Override
+	public void integrate(Rocket rocket, double timeStep) {
+		double x = rocket.getXPosition();
+		double y = rocket.getYPosition();
+		double xVelocity = rocket.getXVelocity();
+		double yVelocity = rocket.getYVelocity();
+		
+		rocket.calculateThrustAcceleration(timeStep, thrust);
+		evaluateStage(rocket, 0, x, y, xVelocity, yVelocity, acceleration);
+		
+		double time = 0;
+		double substep = Math.min(lastSubstep, timeStep); //Proposed size, only shortened for the attempt below
+		while(time < timeStep) {
+			double attempt = limitForTouchdown(rocket, x, y, xVelocity, yVelocity, Math.min(substep, timeStep - time));
+			
+			for(int stage = 1; stage < 7; stage++) {
+				double stageX = x, stageY = y, stageXVelocity = xVelocity, stageYVelocity = yVelocity;
+				for(int j = 0; j < stage; j++) {
+					stageX += attempt * A[stage][j] * kx[j];
+					stageY += attempt * A[stage][j] * ky[j];
+					stageXVelocity += attempt * A[stage][j] * kxVelocity[j];
+					stageYVelocity += attempt * A[stage][j] * kyVelocity[j];
+				}
+				evaluateStage(rocket, stage, stageX, stageY, stageXVelocity, stageYVelocity, acceleration);
+			}
+			
+			//Root mean square of the error relative to the tolerances
+			double xError = 0, yError = 0, xVelocityError = 0, yVelocityError = 0;
+			for(int j = 0; j < 7; j++) {
+				xError += attempt * ERROR[j] * kx[j];
+				yError += attempt * ERROR[j] * ky[j];
+				xVelocityError += attempt * ERROR[j] * kxVelocity[j];
+				yVelocityError += attempt * ERROR[j] * kyVelocity[j];
+			}
+			double error = Math.sqrt(((xError * xError + yError * yError) / (positionTolerance * positionTolerance)
+					+ (xVelocityError * xVelocityError + yVelocityError * yVelocityError) / (velocityTolerance * velocityTolerance)) / 4);
+			
+			double factor = error == 0 ? 5 : Math.min(5, Math.max(0.2, 0.9 * Math.pow(error, -0.2)));
+			if(error <= 1 || attempt <= minSubstep) {
+				//The seventh stage is evaluated at the new solution, so it becomes the first stage of the next substep
+				for(int j = 0; j < 6; j++) {
+					x += attempt * A[6][j] * kx[j];
+					y += attempt * A[6][j] * ky[j];
+					xVelocity += attempt * A[6][j] * kxVelocity[j];
+					yVelocity += attempt * A[6][j] * kyVelocity[j];
+				}
+				kx[0] = kx[6];
+				ky[0] = ky[6];
+				kxVelocity[0] = kxVelocity[6];
+				kyVelocity[0] = kyVelocity[6];
+				
+				time += attempt;
+				substeps++;
+				substep = attempt < substep ? Math.max(substep, attempt * factor) : attempt * factor; //A shortened attempt says nothing about the proposal
+			}
+			else {
+				rejectedSubsteps++;
+				substep = Math.max(minSubstep, attempt * factor);
+			}
+		}
+		lastSubstep = substep;
+		
+		rocket.setXPosition(x);
+		rocket.setYPosition(y);
+		rocket.setXVelocity(xVelocity);
+		rocket.setYVelocity(yVelocity);
+	}
+	
+	private void evaluateStage(Rocket rocket, int stage, double x, double y, double xVelocity, double yVelocity, double[] acceleration) {
+		rocket.calculateAcceleration(x, y, thrust, acceleration);
+		forceEvaluations++;
+		
+		kx[stage] = xVelocity;
+		ky[stage] = yVelocity;
+		kxVelocity[stage] = acceleration[0];
+		kyVelocity[stage] = acceleration[1];
+	}
+	
+	private double limitForTouchdown(Rocket rocket, double x, double y, double xVelocity, double yVelocity, double substep) {
+		double distance = Math.sqrt(x * x + y * y);
+		double altitude = distance - rocket.getCurrentBody().getRadius();
+		double closingSpeed = -(x * xVelocity + y * yVelocity) / distance; //Positive when falling
+		
+		if(closingSpeed > 0 && altitude > 0) {
+			double timeToSurface = altitude / closingSpeed;
+			substep = Math.min(substep, Math.max(minSubstep, touchdownFraction * timeToSurface));
+		}
+		return substep;
+	}
+	
+	@Override
+	public long getForceEvaluations() {
+		return forceEvaluations;
+	}
+	
+	//Getters/Setters
+	public long getSubsteps() {
+		return substeps;
+	}
+	
+	public long getRejectedSubsteps() {
+		return rejectedSubsteps;
+	}
+	
+	public double getPositionTolerance() {
+		return positionTolerance;
+	}
+	
+	public void setPositionTolerance(double positionTolerance) {
+		this.positionTolerance = positionTolerance;
+	}
+	
+	public double getVelocityTolerance() {
+		return velocityTolerance;
+	}
+	
+	public void setVelocityTolerance(double velocityTolerance) {
+		this.velocityTolerance = velocityTolerance;
+	}
+	
+	public double getMinSubstep() {
+		return minSubstep;
+	}
+	
+	public void setMinSubstep(double minSubstep) {
+		this.minSubstep = minSubstep;
+	}
+	
+	public double getTouchdownFraction() {
+		return touchdownFraction;
+	}
+	
+	public void setTouchdownFraction(double touchdownFraction) {
+		this.touchdownFraction = touchdownFraction;
+	}
+	
+}
@@ -0,0 +1,62 @@
+//***************************************************************
+// Class: DoubleRingBuffer
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Fixed-size history of doubles, the oldest value is overwritten once it is full
+//
+// Attributes:  -values: double[]
+//				-start: int
+//				-size: int
+//
+// Methods: +add(double): void,
+//			+get(int): double,
+//			+getLast(): double,
+//			+clear(): void
+//
+//**************************************************************
+
+public class DoubleRingBuffer {
+	
+	private final double[] values;
+	private int start = 0; //Index of the oldest value
+	private int size = 0;
+	
+	public DoubleRingBuffer(int capacity) {
+		values = new double[capacity];
+	}
+
+	public void add(double value) {
+		if(size < values.length) {
+			values[(start + size) % values.length] = value;
+			size++;
+		}
+		else {
+			values[start] = value;
+			start = (start + 1) % values.length;
+		}
+	}
+
+	public double get(int index) { //0 is the oldest value
+		return values[(start + index) % values.length];
+	}
+
+	public double getLast() {
+		return get(size - 1);
+	}
+
+	public void clear() {
+		start = 0;
+		size = 0;
+	}
+
+	//Getters
+	public int getSize() {
+		return size;
+	}
+
+	public int getCapacity() {
+		return values.length;
+	}
+
+}
@@ -1,7 +1,7 @@
 //***************************************************************
 // Class: Engine
 // Author: Monstroe
-// Modified: 4/22/2022
+// Modified: 10/18/2026
 //
 // Purpose: Base engine class
 //
@@ -13,6 +13,8 @@
 //			+deactivate(): void
 //			+throttle(double): void
 //			+reset(): void
+//			+isThrottleable(): boolean
+//			+copy(): Engine
 //
 //**************************************************************
 
@@ -52,6 +54,14 @@ public class Engine extends Part {
 		thrustPercent = 0.0;
 	}
 	
+	public boolean isThrottleable() {
+		return true;
+	}
+	
+	public Engine copy() { //Independent instance for simulations that run in parallel
+		return new Engine(getMass(), getWidth(), getHeight(), getName(), getColor(), maxThrust);
+	}
+	
 	//Getters/Setters
 	public double getMaxThrust() {
 		return maxThrust;
@@ -1,7 +1,7 @@
 //***************************************************************
 // Class: Fuselage
 // Author: Monstroe
-// Modified: 4/08/2022
+// Modified: 10/18/2026
 //
 // Purpose: Control fuel level and fuel depletion rate.
 //
@@ -11,6 +11,7 @@
 // 
 // Methods: +lowerFuelLevel(): void
 //			+resetFuelLevel(): void
+//			+copy(): Fuselage
 //
 //**************************************************************
 
@@ -44,6 +45,10 @@ public class Fuselage extends Part {
 		fuelLevel = maxFuelLevel;
 	}
 	
+	public Fuselage copy() { //Independent instance (with a full tank) for simulations that run in parallel
+		return new Fuselage(getMass(), getWidth(), getHeight(), getName(), getColor(), maxFuelLevel, depletionRate);
+	}
+	
 	//Getters/Setters
 	public double getMaxFuelLevel() {
 		return maxFuelLevel;
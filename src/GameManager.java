@@ -1,48 +1,158 @@
 //***************************************************************
 // Class: GameManager
 // Author: Monstroe
-// Modified: 4/22/2022
+// Modified: 10/18/2026
 //
-// Purpose: Manages the simulation
+// Purpose: Manages the simulation (headless, rendering is attached as an observer)
 //
 // Attributes:  -player: Rocket
 //				-timeStep: double
-//				-simulationPane: SimulationPane
-// 
-// Methods: +simulate(): void
+//				-simulationTime: double
+//				-landed: boolean
+//				-stepCount: long
+//				-observers: List<SimulationObserver>
+//				-coastState: double[]
+//				-coastAnchor: double[]
+//				-coastAnchorTime: double
+//				-coastAnchored: boolean
+//				-coastedSteps: long
+//				-coastLength: double
+//				-analyticCoast: boolean
+//				-controls: ControlQueue
+//
+// Methods: +simulate(): boolean
+//			+simulate(int, long): boolean
+//			+submitControl(ControlType, double): boolean
+//			-applyControls(): void
+//			-step(): void
+//			-coast(int): int
+//			-notifyObservers(): void
+//			+simulateUntilLanded(double): boolean
 //			+resetMathModel(): void
 //			+hasWon(double, double, double): boolean
+//			+addObserver(SimulationObserver): void
+//			+removeObserver(SimulationObserver): void
 //
 //**************************************************************
 
+import java.util.ArrayList;
+import java.util.List;
+
 public class GameManager {
 	
 	public final double timeStep; //Public since it can't be changed
-	private SimulationPane simulationPane;
 	
 	private Rocket player;
 	
-	public GameManager(SimulationPane simPane) {
-		simulationPane = simPane;
-		timeStep = 1 / (double)simulationPane.framesPerSecond;
+	private double simulationTime = 0.0;
+	private boolean landed = false;
+	private long stepCount = 0; //Whole steps since the reset, the touchdown step counts as one
+	
+	private List<SimulationObserver> observers;
+	
+	//Every coasting step is measured from the state the coast started at, so the result of a step only depends on
+	//its index and never on how the steps were split between simulate() calls (needed for deterministic replays)
+	private final double[] coastState = new double[4];
+	private final double[] coastAnchor = new double[4];
+	private double coastAnchorTime = 0;
+	private boolean coastAnchored = false;
+	private long coastedSteps = 0; //Steps since the anchor
+	private double coastLength = 0; //Steps from the anchor until a collider point could reach the surface
+	//Off by default: a jumped coast lands within round-off of a stepped one, not bit for bit, so it's opt-in
+	private boolean analyticCoast = false; //False steps coasts with the rocket's integrator like any other step
+	
+	private final ControlQueue controls = new ControlQueue(256);
+	
+	public GameManager(double newTimeStep) {
+		timeStep = newTimeStep;
 		
 		player = new Rocket();
+		observers = new ArrayList<>();
 	}
 
-	public void simulate() {
-		player.updatePosition(timeStep);
-		player.updateRotation();
+	public boolean simulate() { //Returns true once the rocket has landed
+		if(!landed) {
+			applyControls();
+			if(coast(1) == 0) {
+				step();
+			}
+			notifyObservers();
+		}
+		return landed;
+	}
+
+	//Runs up to 'maxSteps' steps without taking longer than 'maxNanos', observers are only notified once at the end.
+	//Used for time warp, where many steps happen between two rendered frames.
+	public boolean simulate(int maxSteps, long maxNanos) {
+		if(!landed) {
+			long startTime = System.nanoTime();
+			for(int i = 0; i < maxSteps && !landed; i++) {
+				applyControls();
+				int coastedSteps = coast(maxSteps - i);
+				if(coastedSteps > 0) {
+					i += coastedSteps - 1;
+				}
+				else {
+					step();
+				}
+				if(System.nanoTime() - startTime >= maxNanos) {
+					break;
+				}
+			}
+			notifyObservers();
+		}
+		return landed;
+	}
+
+	//Queues a player control to be applied at the start of the next step. Only one thread may submit controls
+	//(the FX thread in the game), the simulation drains them. Returns false if the queue is full.
+	public boolean submitControl(ControlType type, double value) {
+		return controls.offer(type, value);
+	}
+
+	private void applyControls() { //Observers see each control stamped with the simulation time it took effect at
+		while(!controls.isEmpty()) {
+			ControlType type = controls.peekType();
+			double value = controls.peekValue();
+			controls.remove();
+			
+			switch(type) {
+				case ROTATE:
+					player.rotate(value);
+					break;
+				case THROTTLE:
+					player.getEngine().throttle(value);
+					break;
+				case ACTIVATE:
+					player.getEngine().activate();
+					break;
+				case DEACTIVATE:
+					player.getEngine().deactivate();
+					break;
+			}
+			for(int i = 0; i < observers.size(); i++) {
+				observers.get(i).onControl(this, type, value);
+			}
+		}
+	}
+
+	private void step() {
+		coastAnchored = false;
+		stepCount++;
 		
-		simulationPane.displayPosition();
-		simulationPane.displayRotation();
-		simulationPane.displaySpeed();
-		simulationPane.displayAltitude();
-		simulationPane.displayThrustPercent();
-		simulationPane.updateFuelBar();
+		double startX = player.getXPosition();
+		double startY = player.getYPosition();
+		player.updatePosition(timeStep);
 		
-		if(player.hasCollidedWithSurface()) {
-			simulationPane.stopSimulation();
+		//Move back to the exact point of touchdown so the reported speed, angle and time are not off by part of a step
+		double impact = player.calculateTimeOfImpact(startX, startY);
+		if(impact >= 0) {
+			player.setXPosition(startX + (player.getXPosition() - startX) * impact);
+			player.setYPosition(startY + (player.getYPosition() - startY) * impact);
+			landed = true;
 		}
+		player.updateRotation();
+		simulationTime += impact >= 0 ? timeStep * impact : timeStep;
 		
 		//DEBUG
 		//System.out.println("xPos: " + player.getXPosition() + ", yPos: " + player.getYPosition());
@@ -51,6 +161,67 @@ public class GameManager {
 		//System.out.println("Speed: " + player.calculateSpeed());
 		//System.out.println("Rotation: " + player.getRotationAngleInDegrees() + ", Queued Rotation: " + player.getQueuedRotationAngleInDegrees());
 	}
+
+	//While the engine is off the orbit is fixed, so skip straight ahead (on the same step grid) until the rocket
+	//is about to reach the surface or 'maxSteps' have passed. Returns the number of steps skipped, 0 if none were.
+	//If the propagator fails to converge nothing is skipped, and the caller takes a regular numeric step instead.
+	private int coast(int maxSteps) {
+		int steps = 0;
+		if(analyticCoast && player.isCoasting()) {
+			double mu = player.getCurrentBody().gravitationalConstant * player.getCurrentBody().getMass();
+			if(!coastAnchored) {
+				coastAnchor[0] = player.getXPosition();
+				coastAnchor[1] = player.getYPosition();
+				coastAnchor[2] = player.getXVelocity();
+				coastAnchor[3] = player.getYVelocity();
+				coastAnchorTime = simulationTime;
+				coastedSteps = 0;
+				
+				//Stop one step before any collider point could touch, the regular steps handle touchdown
+				double timeToSurface = KeplerPropagator.calculateTimeToRadius(mu, coastAnchor, player.getCurrentBody().getRadius() + player.getCollider().getBoundingRadius());
+				coastLength = Math.floor(timeToSurface / timeStep) - 1;
+				coastAnchored = true;
+			}
+			steps = (int)Math.max(0, Math.min(maxSteps, coastLength - coastedSteps));
+			
+			if(steps > 0) {
+				System.arraycopy(coastAnchor, 0, coastState, 0, coastState.length);
+				if(!KeplerPropagator.propagate(mu, coastState, (coastedSteps + steps) * timeStep)) {
+					return 0;
+				}
+				coastedSteps += steps;
+				stepCount += steps;
+				player.setXPosition(coastState[0]);
+				player.setYPosition(coastState[1]);
+				player.setXVelocity(coastState[2]);
+				player.setYVelocity(coastState[3]);
+				player.updateRotation();
+				simulationTime = coastAnchorTime + coastedSteps * timeStep;
+			}
+		}
+		else {
+			coastAnchored = false;
+		}
+		return steps;
+	}
+
+	private void notifyObservers() {
+		for(int i = 0; i < observers.size(); i++) {
+			observers.get(i).onStep(this);
+		}
+		if(landed) {
+			for(int i = 0; i < observers.size(); i++) {
+				observers.get(i).onLanding(this);
+			}
+		}
+	}
+
+	public boolean simulateUntilLanded(double maxSimulationTime) { //Steps as fast as the CPU allows; returns false if time ran out first
+		while(!landed && simulationTime < maxSimulationTime) {
+			simulate();
+		}
+		return landed;
+	}
 	
 	public void resetMathModel() {
 		player.setXPosition(0);
@@ -62,6 +233,12 @@ public class GameManager {
 		
 		player.getFuselage().resetFuelLevel();
 		player.getEngine().reset();
+		
+		simulationTime = 0.0;
+		landed = false;
+		stepCount = 0;
+		coastAnchored = false;
+		controls.clear();
 	}
 	
 	public boolean hasWon(double minRotate, double maxRotate, double maxSpeed) {
@@ -74,6 +251,14 @@ public class GameManager {
 		return won;
 	}
 
+	public void addObserver(SimulationObserver observer) {
+		observers.add(observer);
+	}
+
+	public void removeObserver(SimulationObserver observer) {
+		observers.remove(observer);
+	}
+
 	//Getters/Setters
 	public Rocket getPlayer() {
 		return player;
@@ -83,4 +268,25 @@ public class GameManager {
 		this.player = player;
 	}
 
+	public double getSimulationTime() {
+		return simulationTime;
+	}
+
+	public boolean hasLanded() {
+		return landed;
+	}
+
+	public long getStepCount() {
+		return stepCount;
+	}
+
+	public boolean isAnalyticCoast() {
+		return analyticCoast;
+	}
+
+	public void setAnalyticCoast(boolean analyticCoast) {
+		this.analyticCoast = analyticCoast;
+		coastAnchored = false;
+	}
+
 }
@@ -0,0 +1,128 @@
+//***************************************************************
+// Class: Histogram
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Distribution of non-negative long values with percentiles, recording never allocates
+//
+// Attributes:  -unit: String
+//				-counts: long[]
+//				-count: long
+//				-sum: double
+//				-min: long
+//				-max: long
+//
+// Methods: +record(long): void,
+//			+getPercentile(double): long,
+//			+getMean(): double,
+//			+reset(): void,
+//			+copy(): Histogram,
+//			-bucketOf(long): int,
+//			-valueOf(int): long
+//
+//**************************************************************
+
+//Values below 16 get a bucket each, above that every power of two is split into 16 buckets, so a percentile is within
+//about 6% of the real value no matter how large it is. Only one thread may record, others read slightly stale values.
+
+import java.util.Arrays;
+
+public class Histogram {
+	
+	private static final int SUB_BUCKETS = 16;
+	private static final int SUB_BUCKET_BITS = 4;
+	private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+	
+	private final String unit;
+	private final long[] counts = new long[BUCKETS];
+	private long count = 0;
+	private double sum = 0;
+	private long min = Long.MAX_VALUE;
+	private long max = 0;
+	
+	public Histogram(String newUnit) {
+		unit = newUnit;
+	}
+
+	public void record(long value) {
+		value = Math.max(0, value);
+		counts[bucketOf(value)]++;
+		count++;
+		sum += value;
+		min = Math.min(min, value);
+		max = Math.max(max, value);
+	}
+
+	public long getPercentile(double percentile) { //'percentile' from 0 to 100, 0 if nothing was recorded
+		if(count == 0) {
+			return 0;
+		}
+		long rank = Math.max(1, (long)Math.ceil(percentile / 100 * count));
+		long seen = 0;
+		for(int bucket = 0; bucket < BUCKETS; bucket++) {
+			seen += counts[bucket];
+			if(seen >= rank) {
+				return Math.max(min, Math.min(max, valueOf(bucket)));
+			}
+		}
+		return max;
+	}
+
+	public double getMean() {
+		return count == 0 ? 0 : sum / count;
+	}
+
+	public void reset() {
+		Arrays.fill(counts, 0);
+		count = 0;
+		sum = 0;
+		min = Long.MAX_VALUE;
+		max = 0;
+	}
+
+	public Histogram copy() { //Snapshot that can be read on another thread while this one keeps recording
+		Histogram histogram = new Histogram(unit);
+		System.arraycopy(counts, 0, histogram.counts, 0, BUCKETS);
+		histogram.count = count;
+		histogram.sum = sum;
+		histogram.min = min;
+		histogram.max = max;
+		return histogram;
+	}
+
+	private static int bucketOf(long value) {
+		if(value < SUB_BUCKETS) {
+			return (int)value;
+		}
+		int exponent = 63 - Long.numberOfLeadingZeros(value); //At least SUB_BUCKET_BITS
+		int subBucket = (int)(value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+		return SUB_BUCKETS + (exponent - SUB_BUCKET_BITS) * SUB_BUCKETS + subBucket;
+	}
+
+	private static long valueOf(int bucket) { //Middle of the range of values in 'bucket'
+		if(bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+		long lower = (long)(SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+		return lower + ((1L << shift) >> 1);
+	}
+
+	//Getters
+	public String getUnit() {
+		return unit;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public long getMin() {
+		return count == 0 ? 0 : min;
+	}
+
+	public long getMax() {
+		return max;
+	}
+
+}
@@ -0,0 +1,52 @@
+//***************************************************************
+// Class: HudLabel
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Label showing a whole number between a fixed prefix and suffix, only updated when the number changes
+//
+// Attributes:  -prefix: String
+//				-suffix: String
+//				-value: int
+//				-valid: boolean
+//
+// Methods: +setValue(int): void,
+//			+invalidate(): void
+//
+//**************************************************************
+
+import javafx.scene.control.Label;
+
+public class HudLabel extends Label {
+	
+	private final String prefix;
+	private final String suffix;
+	private int value;
+	private boolean valid = false; //False until the first value is shown
+	
+	public HudLabel(String newPrefix, String newSuffix) {
+		super(newPrefix);
+		prefix = newPrefix;
+		suffix = newSuffix;
+	}
+
+	//An unchanged number skips building the text, setText already ignores an equal string but only after it was concatenated
+	public void setValue(int newValue) {
+		if(valid && value == newValue) {
+			return;
+		}
+		value = newValue;
+		valid = true;
+		setText(prefix + newValue + suffix);
+	}
+
+	public void invalidate() { //The next setValue updates the text no matter what
+		valid = false;
+	}
+
+	//Getters
+	public int getValue() {
+		return value;
+	}
+
+}
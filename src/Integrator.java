@@ -0,0 +1,21 @@
+//***************************************************************
+// Interface: Integrator
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Advances the position and velocity of a rocket over one time step
+//
+// Attributes:
+//
+// Methods: +integrate(Rocket, double): void,
+//			+getForceEvaluations(): long
+//
+//**************************************************************
+
+public interface Integrator {
+	
+	public void integrate(Rocket rocket, double timeStep); //Does not touch the rotation, Rocket.updateRotation() handles that
+	
+	public long getForceEvaluations(); //Number of gravity evaluations so far, used to compare integrators
+	
+}
@@ -0,0 +1,59 @@
+//***************************************************************
+// Enum: IntegratorType
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Integrators a run can be configured with
+//
+// Attributes:
+//
+// Methods: +create(): Integrator,
+//			+of(Integrator): IntegratorType
+//
+//**************************************************************
+
+public enum IntegratorType {
+	SEMI_IMPLICIT_EULER,
+	RUNGE_KUTTA_4,
+	VELOCITY_VERLET,
+	DORMAND_PRINCE;
+	
+	public Integrator create() { //Integrators keep scratch state, so every rocket needs its own
+		Integrator integrator;
+		switch(this) {
+			case RUNGE_KUTTA_4:
+				integrator = new RungeKutta4Integrator();
+				break;
+			case VELOCITY_VERLET:
+				integrator = new VelocityVerletIntegrator();
+				break;
+			case DORMAND_PRINCE:
+				integrator = new DormandPrinceIntegrator();
+				break;
+			default:
+				integrator = new SemiImplicitEulerIntegrator();
+				break;
+		}
+		return integrator;
+	}
+	
+	public static IntegratorType of(Integrator integrator) { //Throws IllegalArgumentException for an integrator that isn't one of these
+		IntegratorType type;
+		if(integrator instanceof SemiImplicitEulerIntegrator) {
+			type = SEMI_IMPLICIT_EULER;
+		}
+		else if(integrator instanceof RungeKutta4Integrator) {
+			type = RUNGE_KUTTA_4;
+		}
+		else if(integrator instanceof VelocityVerletIntegrator) {
+			type = VELOCITY_VERLET;
+		}
+		else if(integrator instanceof DormandPrinceIntegrator) {
+			type = DORMAND_PRINCE;
+		}
+		else {
+			throw new IllegalArgumentException(integrator.getClass().getSimpleName() + " is not an IntegratorType.");
+		}
+		return type;
+	}
+}
@@ -0,0 +1,64 @@
+//***************************************************************
+// Class: KeplerCoastIntegrator
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Uses the exact orbit while the engine is off and hands off to a numeric integrator while it is on
+//
+// Attributes:  -poweredIntegrator: Integrator
+//				-state: double[]
+//				-coastSteps: long
+//
+// Methods: +integrate(Rocket, double): void,
+//			+getForceEvaluations(): long
+//
+//**************************************************************
+
+public class KeplerCoastIntegrator implements Integrator {
+	
+	private Integrator poweredIntegrator;
+	private final double[] state = new double[4];
+	private long coastSteps = 0;
+	
+	public KeplerCoastIntegrator(Integrator newPoweredIntegrator) {
+		poweredIntegrator = newPoweredIntegrator;
+	}
+	
+	@Override
+	public void integrate(Rocket rocket, double timeStep) {
+		if(rocket.isCoasting()) {
+			state[0] = rocket.getXPosition();
+			state[1] = rocket.getYPosition();
+			state[2] = rocket.getXVelocity();
+			state[3] = rocket.getYVelocity();
+			if(KeplerPropagator.propagate(rocket.getCurrentBody().gravitationalConstant * rocket.getCurrentBody().getMass(), state, timeStep)) {
+				coastSteps++;
+				rocket.setXPosition(state[0]);
+				rocket.setYPosition(state[1]);
+				rocket.setXVelocity(state[2]);
+				rocket.setYVelocity(state[3]);
+				return;
+			}
+		}
+		poweredIntegrator.integrate(rocket, timeStep); //Also steps the rare coast the propagator can't solve
+	}
+	
+	@Override
+	public long getForceEvaluations() { //Coasting steps need no force evaluations
+		return poweredIntegrator.getForceEvaluations();
+	}
+	
+	//Getters/Setters
+	public long getCoastSteps() {
+		return coastSteps;
+	}
+	
+	public Integrator getPoweredIntegrator() {
+		return poweredIntegrator;
+	}
+	
+	public void setPoweredIntegrator(Integrator poweredIntegrator) {
+		this.poweredIntegrator = poweredIntegrator;
+	}
+	
+}
@@ -0,0 +1,172 @@
+//***************************************************************
+// Class: KeplerPropagator
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Exact two-body motion for unpowered coasts, jumps to any time in one call
+//
+// Attributes:
+//
+// Methods: +propagate(double, double[], double): boolean,
+//			+calculateTimeToRadius(double, double[], double): double,
+//			-timeSincePeriapsis(double, double, double, double): double,
+//			-atanh(double): double,
+//			-stumpffC(double): double,
+//			-stumpffS(double): double
+//
+//**************************************************************
+
+public class KeplerPropagator {
+
+	private static final int MAX_ITERATIONS = 50;
+	private static final double TOLERANCE = 1e-12;
+
+	//Moves 'state' ({x, y, xVelocity, yVelocity}) forward by 'time' seconds around a body with gravitational parameter 'mu' (G * M).
+	//Universal variable formulation, so it works for elliptic, parabolic and hyperbolic paths alike.
+	//Returns false, and leaves 'state' as it was, if Newton's method didn't converge; the caller should step numerically instead.
+	public static boolean propagate(double mu, double[] state, double time) {
+		double x = state[0], y = state[1], xVelocity = state[2], yVelocity = state[3];
+		double sqrtMu = Math.sqrt(mu);
+		double distance = Math.sqrt(x * x + y * y);
+		double radialVelocity = (x * xVelocity + y * yVelocity) / distance;
+		double alpha = 2 / distance - (xVelocity * xVelocity + yVelocity * yVelocity) / mu; //1 / semi-major axis
+		if(alpha > 0) { //Whole orbits change nothing, and leaving them in would start Newton's method many revolutions out
+			double period = 2 * Math.PI / (sqrtMu * alpha * Math.sqrt(alpha));
+			time %= period;
+		}
+
+		//Newton's method on the universal Kepler equation
+		double chi = sqrtMu * Math.abs(alpha) * time;
+		if(alpha <= 0 || chi == 0) {
+			chi = sqrtMu * time / distance;
+		}
+		boolean converged = false;
+		for(int i = 0; i < MAX_ITERATIONS && !converged; i++) {
+			double z = alpha * chi * chi;
+			double c = stumpffC(z);
+			double s = stumpffS(z);
+			double f = distance * radialVelocity / sqrtMu * chi * chi * c + (1 - alpha * distance) * chi * chi * chi * s + distance * chi - sqrtMu * time;
+			double derivative = distance * radialVelocity / sqrtMu * chi * (1 - z * s) + (1 - alpha * distance) * chi * chi * c + distance;
+			double change = f / derivative;
+			chi -= change;
+			converged = Math.abs(change) <= TOLERANCE * Math.max(1, Math.abs(chi));
+		}
+		if(!converged || !Double.isFinite(chi)) {
+			return false;
+		}
+
+		//Lagrange coefficients
+		double z = alpha * chi * chi;
+		double c = stumpffC(z);
+		double s = stumpffS(z);
+		double f = 1 - chi * chi / distance * c;
+		double g = time - chi * chi * chi / sqrtMu * s;
+		double newX = f * x + g * xVelocity;
+		double newY = f * y + g * yVelocity;
+		double newDistance = Math.sqrt(newX * newX + newY * newY);
+		double fDot = sqrtMu / (newDistance * distance) * (z * chi * s - chi);
+		double gDot = 1 - chi * chi / newDistance * c;
+		double newXVelocity = fDot * x + gDot * xVelocity;
+		double newYVelocity = fDot * y + gDot * yVelocity;
+		if(!Double.isFinite(newX) || !Double.isFinite(newY) || !Double.isFinite(newXVelocity) || !Double.isFinite(newYVelocity)) {
+			return false;
+		}
+
+		state[0] = newX;
+		state[1] = newY;
+		state[2] = newXVelocity;
+		state[3] = newYVelocity;
+		return true;
+	}
+
+	//Seconds until the path next falls through 'radius', infinity if it never does (e.g. the orbit stays above it)
+	public static double calculateTimeToRadius(double mu, double[] state, double radius) {
+		double x = state[0], y = state[1], xVelocity = state[2], yVelocity = state[3];
+		double distance = Math.sqrt(x * x + y * y);
+		if(distance <= radius) {
+			return 0;
+		}
+
+		double angularMomentum = Math.abs(x * yVelocity - y * xVelocity);
+		double semiLatusRectum = angularMomentum * angularMomentum / mu;
+		double radialVelocity = (x * xVelocity + y * yVelocity) / distance;
+		double eccentricityCos = semiLatusRectum / distance - 1; //e * cos(true anomaly)
+		double eccentricitySin = angularMomentum * radialVelocity / mu; //e * sin(true anomaly)
+		double eccentricity = Math.sqrt(eccentricityCos * eccentricityCos + eccentricitySin * eccentricitySin);
+
+		double targetCos = eccentricity == 0 ? Double.POSITIVE_INFINITY : (semiLatusRectum / radius - 1) / eccentricity;
+		if(targetCos > 1 || targetCos < -1) { //Periapsis is above the radius
+			return Double.POSITIVE_INFINITY;
+		}
+
+		double anomaly = Math.atan2(eccentricitySin, eccentricityCos); //Increases with time, periapsis at 0
+		double targetAnomaly = -Math.acos(targetCos); //Falling through the radius happens before periapsis
+
+		double time;
+		if(eccentricity < 1) {
+			double semiMajorAxis = semiLatusRectum / (1 - eccentricity * eccentricity);
+			double period = 2 * Math.PI * Math.sqrt(semiMajorAxis * semiMajorAxis * semiMajorAxis / mu);
+			time = timeSincePeriapsis(mu, semiLatusRectum, eccentricity, targetAnomaly) - timeSincePeriapsis(mu, semiLatusRectum, eccentricity, anomaly);
+			time = ((time % period) + period) % period;
+		}
+		else {
+			time = anomaly < targetAnomaly ? timeSincePeriapsis(mu, semiLatusRectum, eccentricity, targetAnomaly) - timeSincePeriapsis(mu, semiLatusRectum, eccentricity, anomaly) : Double.POSITIVE_INFINITY;
+		}
+		return time;
+	}
+
+	private static double timeSincePeriapsis(double mu, double semiLatusRectum, double eccentricity, double anomaly) {
+		double time;
+		double halfTangent = Math.tan(anomaly / 2);
+		if(Math.abs(eccentricity - 1) < 1e-9) { //Parabola (Barker's equation)
+			time = 0.5 * Math.sqrt(semiLatusRectum * semiLatusRectum * semiLatusRectum / mu) * (halfTangent + halfTangent * halfTangent * halfTangent / 3);
+		}
+		else if(eccentricity < 1) {
+			double semiMajorAxis = semiLatusRectum / (1 - eccentricity * eccentricity);
+			double eccentricAnomaly = 2 * Math.atan(Math.sqrt((1 - eccentricity) / (1 + eccentricity)) * halfTangent);
+			time = (eccentricAnomaly - eccentricity * Math.sin(eccentricAnomaly)) * Math.sqrt(semiMajorAxis * semiMajorAxis * semiMajorAxis / mu);
+		}
+		else {
+			double semiMajorAxis = -semiLatusRectum / (eccentricity * eccentricity - 1);
+			double hyperbolicAnomaly = 2 * atanh(Math.sqrt((eccentricity - 1) / (eccentricity + 1)) * halfTangent);
+			time = (eccentricity * Math.sinh(hyperbolicAnomaly) - hyperbolicAnomaly) * Math.sqrt(-semiMajorAxis * semiMajorAxis * semiMajorAxis / mu);
+		}
+		return time;
+	}
+
+	private static double atanh(double value) {
+		return 0.5 * Math.log((1 + value) / (1 - value));
+	}
+
+	//Stumpff functions, with series expansions near zero where the closed forms lose precision
+	private static double stumpffC(double z) {
+		double c;
+		if(Math.abs(z) < 1e-6) {
+			c = 0.5 - z / 24 + z * z / 720;
+		}
+		else if(z > 0) {
+			c = (1 - Math.cos(Math.sqrt(z))) / z;
+		}
+		else {
+			c = (Math.cosh(Math.sqrt(-z)) - 1) / -z;
+		}
+		return c;
+	}
+
+	private static double stumpffS(double z) {
+		double s;
+		if(Math.abs(z) < 1e-6) {
+			s = 1.0 / 6 - z / 120 + z * z / 5040;
+		}
+		else if(z > 0) {
+			double root = Math.sqrt(z);
+			s = (root - Math.sin(root)) / (root * root * root);
+		}
+		else {
+			double root = Math.sqrt(-z);
+			s = (Math.sinh(root) - root) / (root * root * root);
+		}
+		return s;
+	}
+
+}
@@ -1,7 +1,7 @@
 //***************************************************************
 // Class: LSGUI
 // Author: Monstroe
-// Modified: 4/22/2022
+// Modified: 10/18/2026
 //
 // Purpose: Top Level GUI for program
 //
@@ -12,11 +12,14 @@
 //				-simulationPane: SimulationPane
 // 
 // Methods: -start(Stage): void,
+//			+stop(): void,
 //			+setActivePane(ActivePane): void
 //			+main(String[]): void,
 //
 //**************************************************************
 
+import java.io.File;
+
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.scene.layout.BorderPane;
@@ -45,12 +48,40 @@ public class LSGUI extends Application {
 		buildPane = new BuildPane(this);
 		simulationPane = new SimulationPane(this);
 		
-		manager = new GameManager(simulationPane);
+		manager = new GameManager(1 / (double)simulationPane.framesPerSecond);
 		
 		menuPane.initialize();
 		buildPane.initialize();
 		simulationPane.initialize();
 		
+		//Runs are recorded as replays when started with --replays=<directory>, and their telemetry with --telemetry=<directory>
+		String replayDirectory = getParameters().getNamed().get("replays");
+		if(replayDirectory != null) {
+			simulationPane.setReplayDirectory(new File(replayDirectory));
+		}
+		String telemetryDirectory = getParameters().getNamed().get("telemetry");
+		if(telemetryDirectory != null) {
+			simulationPane.setTelemetryDirectory(new File(telemetryDirectory));
+		}
+		//--renderer=canvas draws the simulation on a Canvas instead of with scene graph nodes
+		simulationPane.setCanvasRendering("canvas".equals(getParameters().getNamed().get("renderer")));
+		//--metrics=<directory> writes the performance metrics of every run there as JSON and CSV
+		String metricsDirectory = getParameters().getNamed().get("metrics");
+		if(metricsDirectory != null) {
+			simulationPane.setMetricsDirectory(new File(metricsDirectory));
+		}
+		//--hud-rate=<updates per second> caps how often the status numbers change, 0 updates them every frame
+		String hudRate = getParameters().getNamed().get("hud-rate");
+		if(hudRate != null) {
+			try {
+				simulationPane.setHudRefreshRate(Double.parseDouble(hudRate));
+			} catch(NumberFormatException e) {
+				System.out.println("Unable to read the HUD rate '" + hudRate + "', keeping " + simulationPane.getHudRefreshRate() + " updates per second.");
+			}
+		}
+		//--analytic-coast jumps along unpowered coasts with the exact orbit, close to the stepped result but not bit for bit
+		manager.setAnalyticCoast(getParameters().getUnnamed().contains("--analytic-coast"));
+		
 		Scene scene = new Scene(topPane, 600, 600);
 		setActivePane(ActivePane.MENUPANE);
 		
@@ -59,6 +90,12 @@ public class LSGUI extends Application {
 		primaryStage.show();
 	}
 
+	@Override
+	public void stop() { //Saved rockets still waiting on the journal and the last run's metrics are written before the program exits
+		simulationPane.close();
+		buildPane.getPersistence().close();
+	}
+
 	public void setActivePane(ActivePane pane) {
 		switch(pane) {
 			case SIMULATIONPANE: {
@@ -83,7 +120,7 @@ public class LSGUI extends Application {
 	}
 	
 	public static void main(String[] args) {
-		launch();
+		launch(args);
 	}
 
 	//Getters/Setters
@@ -0,0 +1,228 @@
+//***************************************************************
+// Class: LandingEvaluator
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Runs thousands of randomized headless landings of one design across all cores
+//
+// Attributes:  -commandModule: CommandModule
+//				-fuselage: Fuselage
+//				-engine: Engine
+//				-body: Body
+//				-timeStep: double
+//				-integratorType: IntegratorType
+//				-maxSimulationTime: double
+//				-minStartingAltitude: int
+//				-maxStartingAltitude: int
+//				-velocityPerturbation: double
+//				-seed: long
+//				-pool: ForkJoinPool
+//
+// Methods: +evaluate(int): LandingReport,
+//			+runLanding(int): LandingResult,
+//			-createSchedule(SplittableRandom): ControlSchedule,
+//			+main(String[]): void
+//
+//**************************************************************
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+public class LandingEvaluator {
+	
+	//Same criteria as SimulationPane.stopSimulation()
+	public static final double MIN_WIN_ROTATION = 70;
+	public static final double MAX_WIN_ROTATION = 110;
+	public static final double MAX_WIN_SPEED = 10;
+	
+	private static final int RUNS_PER_TASK = 64; //Below this a task runs its landings sequentially
+	
+	private CommandModule commandModule;
+	private Fuselage fuselage;
+	private Engine engine;
+	private Body body;
+	
+	private double timeStep = 1 / 60.0;
+	private IntegratorType integratorType = IntegratorType.SEMI_IMPLICIT_EULER;
+	private double maxSimulationTime = 3600;
+	
+	private int minStartingAltitude = 100; //Same limits as MenuPane
+	private int maxStartingAltitude = 1000;
+	private double velocityPerturbation = 0.05; //Fraction of the circular orbit speed
+	
+	private long seed = 0;
+	private ForkJoinPool pool = ForkJoinPool.commonPool();
+	
+	public LandingEvaluator(CommandModule newCommandModule, Fuselage newFuselage, Engine newEngine, Body newBody) {
+		commandModule = newCommandModule;
+		fuselage = newFuselage;
+		engine = newEngine;
+		body = newBody;
+	}
+
+	public LandingReport evaluate(int runs) {
+		return pool.invoke(new LandingTask(0, runs));
+	}
+
+	public LandingResult runLanding(int run) { //The same run number always produces the same landing
+		SplittableRandom random = new SplittableRandom(seed + run * 0x9E3779B97F4A7C15L);
+		
+		//Every run gets its own parts since fuel and thrust are changed while flying
+		GameManager gameManager = new GameManager(timeStep);
+		Rocket rocket = gameManager.getPlayer();
+		rocket.setCurrentBody(body);
+		rocket.setIntegrator(integratorType.create());
+		rocket.setCommandModule(commandModule.copy());
+		rocket.setFuselage(fuselage.copy());
+		rocket.setEngine(engine.copy());
+		rocket.setStartingAltitude(random.nextInt(minStartingAltitude, maxStartingAltitude + 1));
+		gameManager.resetMathModel();
+		
+		double orbitSpeed = rocket.calculateSpeed();
+		rocket.setXVelocity(rocket.getXVelocity() + random.nextDouble(-velocityPerturbation, velocityPerturbation) * orbitSpeed);
+		rocket.setYVelocity(rocket.getYVelocity() + random.nextDouble(-velocityPerturbation, velocityPerturbation) * orbitSpeed);
+		
+		ControlSchedule schedule = createSchedule(random);
+		while(!gameManager.hasLanded() && gameManager.getSimulationTime() < maxSimulationTime) {
+			schedule.apply(rocket, gameManager.getSimulationTime(), timeStep);
+			gameManager.simulate();
+		}
+
+		return new LandingResult(gameManager.hasLanded(), gameManager.hasLanded() && gameManager.hasWon(MIN_WIN_ROTATION, MAX_WIN_ROTATION, MAX_WIN_SPEED),
+				rocket.calculateSpeed(), rocket.getRotationAngleInDegrees(), gameManager.getSimulationTime(), rocket.getFuselage().getFuelLevel());
+	}
+
+	private ControlSchedule createSchedule(SplittableRandom random) {
+		//Coast, burn retrograde, pitch up for touchdown, then cut the engine (solid engines ignore the cut)
+		double ignitionTime = random.nextDouble(0, 20);
+		double pitchTime = ignitionTime + random.nextDouble(30, 150);
+		double cutoffTime = pitchTime + random.nextDouble(5, 60);
+		
+		return new ControlSchedule(
+				new double[] {0, ignitionTime, pitchTime, cutoffTime},
+				new double[] {0, random.nextDouble(0.3, 1), random.nextDouble(0, 1), 0},
+				new double[] {0, 0, random.nextDouble(60, 120), random.nextDouble(60, 120)});
+	}
+
+	//Splits the runs in half until they are small enough to fly on one thread
+	private class LandingTask extends RecursiveTask<LandingReport> {
+		
+		private static final long serialVersionUID = 1L;
+		
+		private final int firstRun;
+		private final int lastRun; //Exclusive
+		
+		LandingTask(int newFirstRun, int newLastRun) {
+			firstRun = newFirstRun;
+			lastRun = newLastRun;
+		}
+
+		@Override
+		protected LandingReport compute() {
+			LandingReport report;
+			if(lastRun - firstRun <= RUNS_PER_TASK) {
+				report = new LandingReport();
+				for(int i = firstRun; i < lastRun; i++) {
+					report.add(runLanding(i));
+				}
+			}
+			else {
+				int middleRun = (firstRun + lastRun) >>> 1;
+				LandingTask left = new LandingTask(firstRun, middleRun);
+				left.fork();
+				report = new LandingTask(middleRun, lastRun).compute();
+				report.merge(left.join());
+			}
+			return report;
+		}
+	
+	}
+
+	//Usage: LandingEvaluator <body index> <command module index> <fuselage index> <engine index> <runs>
+	public static void main(String[] args) {
+		List<Body> bodies = BodyCatalog.createBodies();
+		List<CommandModule> commandModules = PartCatalog.createCommandModules();
+		List<Fuselage> fuselages = PartCatalog.createFuselages();
+		List<Engine> engines = PartCatalog.createEngines();
+		
+		int[] choices = {0, 0, 0, 0, 10000};
+		for(int i = 0; i < args.length && i < choices.length; i++) {
+			choices[i] = Integer.parseInt(args[i]);
+		}
+
+		LandingEvaluator evaluator = new LandingEvaluator(commandModules.get(choices[1]), fuselages.get(choices[2]), engines.get(choices[3]), bodies.get(choices[0]));
+		long startTime = System.nanoTime();
+		LandingReport report = evaluator.evaluate(choices[4]);
+		
+		System.out.println(report);
+		System.out.println("Finished in " + (System.nanoTime() - startTime) / 1000000 + " ms on " + evaluator.getPool().getParallelism() + " threads");
+	}
+
+	//Getters/Setters
+	public double getTimeStep() {
+		return timeStep;
+	}
+
+	public void setTimeStep(double timeStep) {
+		this.timeStep = timeStep;
+	}
+
+	public IntegratorType getIntegratorType() {
+		return integratorType;
+	}
+	
+	public void setIntegratorType(IntegratorType integratorType) {
+		this.integratorType = integratorType;
+	}
+	
+	public double getMaxSimulationTime() {
+		return maxSimulationTime;
+	}
+
+	public void setMaxSimulationTime(double maxSimulationTime) {
+		this.maxSimulationTime = maxSimulationTime;
+	}
+
+	public int getMinStartingAltitude() {
+		return minStartingAltitude;
+	}
+
+	public void setMinStartingAltitude(int minStartingAltitude) {
+		this.minStartingAltitude = minStartingAltitude;
+	}
+
+	public int getMaxStartingAltitude() {
+		return maxStartingAltitude;
+	}
+
+	public void setMaxStartingAltitude(int maxStartingAltitude) {
+		this.maxStartingAltitude = maxStartingAltitude;
+	}
+
+	public double getVelocityPerturbation() {
+		return velocityPerturbation;
+	}
+
+	public void setVelocityPerturbation(double velocityPerturbation) {
+		this.velocityPerturbation = velocityPerturbation;
+	}
+
+	public long getSeed() {
+		return seed;
+	}
+
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+	public void setPool(ForkJoinPool pool) {
+		this.pool = pool;
+	}
+
+}
@@ -0,0 +1,145 @@
+//***************************************************************
+// Class: LandingReport
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Aggregated statistics over many landings of the same design
+//
+// Attributes:  -runs: int
+//				-landings: int
+//				-wins: int
+//				-touchdownSpeeds: double[]
+//				-touchdownRotations: double[]
+//
+// Methods: +add(LandingResult): void,
+//			+merge(LandingReport): void,
+//			+getWinRate(): double,
+//			+getMeanTouchdownSpeed(): double,
+//			+getTouchdownSpeedPercentile(double): double,
+//			+getTouchdownRotationPercentile(double): double,
+//			+getTouchdownSpeedHistogram(double, int): int[],
+//			+getTouchdownRotationHistogram(int): int[],
+//			-percentile(double[], int, double): double,
+//			-grow(double[]): double[]
+//
+//**************************************************************
+
+import java.text.DecimalFormat;
+import java.util.Arrays;
+
+public class LandingReport {
+	
+	private int runs = 0;
+	private int landings = 0;
+	private int wins = 0;
+	
+	//Only landed runs are recorded, the first 'landings' entries are used
+	private double[] touchdownSpeeds = new double[16];
+	private double[] touchdownRotations = new double[16];
+	
+	public void add(LandingResult result) {
+		runs++;
+		if(result.hasWon()) {
+			wins++;
+		}
+		if(result.hasLanded()) {
+			if(landings == touchdownSpeeds.length) {
+				touchdownSpeeds = grow(touchdownSpeeds);
+				touchdownRotations = grow(touchdownRotations);
+			}
+			touchdownSpeeds[landings] = result.getTouchdownSpeed();
+			touchdownRotations[landings] = result.getTouchdownRotation();
+			landings++;
+		}
+	}
+
+	public void merge(LandingReport other) {
+		if(landings + other.landings > touchdownSpeeds.length) {
+			touchdownSpeeds = Arrays.copyOf(touchdownSpeeds, landings + other.landings);
+			touchdownRotations = Arrays.copyOf(touchdownRotations, landings + other.landings);
+		}
+		System.arraycopy(other.touchdownSpeeds, 0, touchdownSpeeds, landings, other.landings);
+		System.arraycopy(other.touchdownRotations, 0, touchdownRotations, landings, other.landings);
+		
+		runs += other.runs;
+		landings += other.landings;
+		wins += other.wins;
+	}
+
+	public double getWinRate() {
+		return runs == 0 ? 0 : wins / (double)runs;
+	}
+
+	public double getMeanTouchdownSpeed() {
+		double sum = 0;
+		for(int i = 0; i < landings; i++) {
+			sum += touchdownSpeeds[i];
+		}
+		return landings == 0 ? 0 : sum / landings;
+	}
+
+	public double getTouchdownSpeedPercentile(double percentile) { //Percentile from 0 to 100
+		return percentile(touchdownSpeeds, landings, percentile);
+	}
+
+	public double getTouchdownRotationPercentile(double percentile) {
+		return percentile(touchdownRotations, landings, percentile);
+	}
+
+	public int[] getTouchdownSpeedHistogram(double binWidth, int bins) { //Last bin also counts everything faster
+		int[] histogram = new int[bins];
+		for(int i = 0; i < landings; i++) {
+			histogram[Math.min(bins - 1, (int)(touchdownSpeeds[i] / binWidth))]++;
+		}
+		return histogram;
+	}
+
+	public int[] getTouchdownRotationHistogram(int bins) { //Bins evenly split 0 to 360 degrees
+		int[] histogram = new int[bins];
+		for(int i = 0; i < landings; i++) {
+			histogram[Math.max(0, Math.min(bins - 1, (int)(touchdownRotations[i] / 360 * bins)))]++;
+		}
+		return histogram;
+	}
+
+	private double percentile(double[] values, int count, double percentile) {
+		if(count == 0) {
+			return 0;
+		}
+		double[] sorted = Arrays.copyOf(values, count);
+		Arrays.sort(sorted);
+		int index = (int)Math.ceil(percentile / 100 * count) - 1;
+		return sorted[Math.max(0, Math.min(count - 1, index))];
+	}
+
+	private double[] grow(double[] values) {
+		return Arrays.copyOf(values, values.length * 2);
+	}
+
+	@Override
+	public String toString() {
+		DecimalFormat format = new DecimalFormat("#.##");
+		return "Runs: " + runs + ", Landed: " + landings + ", Won: " + wins + " (" + format.format(getWinRate() * 100) + "%)\n"
+			+  "Touchdown Speed (m/s): mean " + format.format(getMeanTouchdownSpeed())
+			+  ", p5 " + format.format(getTouchdownSpeedPercentile(5))
+			+  ", p50 " + format.format(getTouchdownSpeedPercentile(50))
+			+  ", p95 " + format.format(getTouchdownSpeedPercentile(95)) + "\n"
+			+  "Touchdown Rotation (deg): p5 " + format.format(getTouchdownRotationPercentile(5))
+			+  ", p50 " + format.format(getTouchdownRotationPercentile(50))
+			+  ", p95 " + format.format(getTouchdownRotationPercentile(95));
+	}
+
+	//Getters
+	public int getRuns() {
+		return runs;
+	}
+
+	public int getLandings() {
+		return landings;
+	}
+
+	public int getWins() {
+		return wins;
+	}
+
+}
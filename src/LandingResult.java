@@ -0,0 +1,62 @@
+//***************************************************************
+// Class: LandingResult
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Outcome of a single headless landing
+//
+// Attributes:  -landed: boolean
+//				-won: boolean
+//				-touchdownSpeed: double
+//				-touchdownRotation: double
+//				-landingTime: double
+//				-fuelRemaining: double
+//
+// Methods:
+//
+//**************************************************************
+
+public class LandingResult {
+	
+	private final boolean landed; //False if the simulation ran out of time before reaching the surface
+	private final boolean won;
+	private final double touchdownSpeed;
+	private final double touchdownRotation;
+	private final double landingTime;
+	private final double fuelRemaining;
+	
+	public LandingResult(boolean newLanded, boolean newWon, double newTouchdownSpeed, double newTouchdownRotation, double newLandingTime, double newFuelRemaining) {
+		landed = newLanded;
+		won = newWon;
+		touchdownSpeed = newTouchdownSpeed;
+		touchdownRotation = newTouchdownRotation;
+		landingTime = newLandingTime;
+		fuelRemaining = newFuelRemaining;
+	}
+
+	//Getters
+	public boolean hasLanded() {
+		return landed;
+	}
+
+	public boolean hasWon() {
+		return won;
+	}
+
+	public double getTouchdownSpeed() {
+		return touchdownSpeed;
+	}
+
+	public double getTouchdownRotation() {
+		return touchdownRotation;
+	}
+
+	public double getLandingTime() {
+		return landingTime;
+	}
+
+	public double getFuelRemaining() {
+		return fuelRemaining;
+	}
+
+}
@@ -1,7 +1,7 @@
 //***************************************************************
 // Class: LiquidEngine
 // Author: Monstroe
-// Modified: 4/22/2022
+// Modified: 10/18/2026
 //
 // Purpose: Controls thrust of liquid engines; has greater control versus solid engines
 //
@@ -9,6 +9,7 @@
 // 
 // Methods: +deactivate(): void
 //			+throttle(double): void
+//			+copy(): Engine
 //
 //**************************************************************
 
@@ -36,4 +37,9 @@ public class LiquidEngine extends Engine {
 		super.setCurrentThrust(super.getMaxThrust() * super.getThrustPercent());
 	}
 	
+	@Override
+	public Engine copy() {
+		return new LiquidEngine(getMass(), getWidth(), getHeight(), getName(), getColor(), getMaxThrust());
+	}
+	
 }
@@ -1,7 +1,7 @@
 //***************************************************************
 // Class: MenuPane
 // Author: Monstroe
-// Modified: 4/22/2022
+// Modified: 10/18/2026
 //
 // Purpose: Pane responsible for the main menu of the program
 //
@@ -17,7 +17,6 @@
 //
 //**************************************************************
 
-import java.util.ArrayList;
 import java.util.List;
 
 import javafx.beans.value.ChangeListener;
@@ -32,7 +31,6 @@ import javafx.scene.control.ToggleGroup;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
 
 public class MenuPane extends FlowPane {
 
@@ -318,24 +316,7 @@ public class MenuPane extends FlowPane {
 	}
 
 	private void initializeBodies() {
-		bodies = new ArrayList<>();
-		
-		Body moon = new Body();
-		moon.setMass(0.07346 * Math.pow(10, 24));
-		moon.setRadius(1737.4 * 1000);
-		moon.setColor(Color.DARKGRAY);
-		Body mercury = new Body();
-		mercury.setMass(0.33010 * Math.pow(10, 24));
-		mercury.setRadius(2439.7 * 1000);
-		mercury.setColor(Color.GRAY);
-		Body pluto = new Body();
-		pluto.setMass(0.01303 * Math.pow(10, 24));
-		pluto.setRadius(1188 * 1000);
-		pluto.setColor(Color.DARKGRAY);
-		
-		bodies.add(moon);
-		bodies.add(mercury);
-		bodies.add(pluto);
+		bodies = BodyCatalog.createBodies();
 	}
 
 	//Getters/Setters
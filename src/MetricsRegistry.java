@@ -0,0 +1,120 @@
+//***************************************************************
+// Class: MetricsRegistry
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Named histograms and counters of a run, written out as JSON or CSV when the run ends
+//
+// Attributes:  -histograms: Map<String, Histogram>
+//				-counters: Map<String, AtomicLong>
+//
+// Methods: +histogram(String, String): Histogram,
+//			+counter(String): AtomicLong,
+//			+reset(): void,
+//			+copy(): MetricsRegistry,
+//			+writeJson(File): void,
+//			+writeCsv(File): void
+//
+//**************************************************************
+
+//Metrics are registered up front and then updated without touching the maps, so only registering needs to be on one thread.
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MetricsRegistry {
+	
+	private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+	private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p99.9"};
+	
+	private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+	private final Map<String, AtomicLong> counters = new LinkedHashMap<>();
+	
+	public Histogram histogram(String name, String unit) { //The existing histogram if 'name' is already registered
+		return histograms.computeIfAbsent(name, key -> new Histogram(unit));
+	}
+
+	public AtomicLong counter(String name) {
+		return counters.computeIfAbsent(name, key -> new AtomicLong());
+	}
+
+	public void reset() { //Only while nothing is recording
+		for(Histogram histogram : histograms.values()) {
+			histogram.reset();
+		}
+		for(AtomicLong counter : counters.values()) {
+			counter.set(0);
+		}
+	}
+
+	public MetricsRegistry copy() { //Snapshot of every metric, for writing out while the next run records into this one
+		MetricsRegistry registry = new MetricsRegistry();
+		for(Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+			registry.histograms.put(entry.getKey(), entry.getValue().copy());
+		}
+		for(Map.Entry<String, AtomicLong> entry : counters.entrySet()) {
+			registry.counters.put(entry.getKey(), new AtomicLong(entry.getValue().get()));
+		}
+		return registry;
+	}
+
+	public void writeJson(File file) throws IOException {
+		try(PrintWriter out = new PrintWriter(file)) {
+			out.println("{");
+			out.println("  \"histograms\": {");
+			int index = 0;
+			for(Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+				Histogram histogram = entry.getValue();
+				out.print("    \"" + entry.getKey() + "\": {\"unit\": \"" + histogram.getUnit() + "\", \"count\": " + histogram.getCount()
+						+ ", \"min\": " + histogram.getMin() + ", \"mean\": " + histogram.getMean());
+				for(int i = 0; i < PERCENTILES.length; i++) {
+					out.print(", \"" + PERCENTILE_NAMES[i] + "\": " + histogram.getPercentile(PERCENTILES[i]));
+				}
+				out.println(", \"max\": " + histogram.getMax() + "}" + (++index < histograms.size() ? "," : ""));
+			}
+			out.println("  },");
+			out.println("  \"counters\": {");
+			index = 0;
+			for(Map.Entry<String, AtomicLong> entry : counters.entrySet()) {
+				out.println("    \"" + entry.getKey() + "\": " + entry.getValue().get() + (++index < counters.size() ? "," : ""));
+			}
+			out.println("  }");
+			out.println("}");
+		}
+	}
+
+	public void writeCsv(File file) throws IOException { //Counters are rows with only a count
+		try(PrintWriter out = new PrintWriter(file)) {
+			out.print("name,unit,count,min,mean");
+			for(String percentileName : PERCENTILE_NAMES) {
+				out.print("," + percentileName);
+			}
+			out.println(",max");
+			for(Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+				Histogram histogram = entry.getValue();
+				out.print(entry.getKey() + "," + histogram.getUnit() + "," + histogram.getCount() + "," + histogram.getMin() + "," + histogram.getMean());
+				for(double percentile : PERCENTILES) {
+					out.print("," + histogram.getPercentile(percentile));
+				}
+				out.println("," + histogram.getMax());
+			}
+			for(Map.Entry<String, AtomicLong> entry : counters.entrySet()) {
+				out.println(entry.getKey() + ",," + entry.getValue().get() + ",,,,,,,");
+			}
+		}
+	}
+
+	//Getters
+	public Map<String, Histogram> getHistograms() {
+		return histograms;
+	}
+
+	public Map<String, AtomicLong> getCounters() {
+		return counters;
+	}
+
+}
@@ -0,0 +1,316 @@
+//***************************************************************
+// Class: PartCatalog
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Immutable registry of the parts the player can choose from, loaded from Parts.csv (usable without a GUI)
+//
+// Attributes:  -defaultCatalog: PartCatalog
+//				-parts: List<PartDefinition>
+//				-partsById: Map<String, PartDefinition>
+//				-commandModules: List<PartDefinition>
+//				-fuselages: List<PartDefinition>
+//				-engines: List<PartDefinition>
+//
+// Methods: +getDefault(): PartCatalog,
+//			+load(byte[], File): PartCatalog,
+//			+parse(byte[]): PartCatalog,
+//			+get(String): PartDefinition,
+//			+isIndex(String): boolean,
+//			+createCommandModules(): List<CommandModule>,
+//			+createFuselages(): List<Fuselage>,
+//			+createEngines(): List<Engine>,
+//			-readSource(): byte[],
+//			-readCache(File, long, int): PartCatalog,
+//			-writeCache(File, long, int): void,
+//			-parseDefinition(String, int): PartDefinition
+//
+//**************************************************************
+
+//Parts.csv in the working directory (the repository root has it) is used if there is one, otherwise the copy the build packages with the classes.
+//Parsing is done once and the result is written to Parts.cache, keyed by a checksum of the csv. A warm start only checksums
+//the csv and reads the cache back, which skips the text parsing, and any edit to the csv changes the checksum and rebuilds it.
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import javafx.scene.paint.Color;
+
+public class PartCatalog {
+	
+	private static final String SOURCE_NAME = "Parts.csv";
+	private static final File CACHE_FILE = new File("Parts.cache");
+	private static final int CACHE_MAGIC = 0x4C535043; //"LSPC"
+	private static final int CACHE_VERSION = 1;
+	
+	private static PartCatalog defaultCatalog = null;
+	
+	private final List<PartDefinition> parts;
+	private final Map<String, PartDefinition> partsById;
+	private final List<PartDefinition> commandModules;
+	private final List<PartDefinition> fuselages;
+	private final List<PartDefinition> engines;
+	
+	public PartCatalog(List<PartDefinition> newParts) {
+		parts = Collections.unmodifiableList(new ArrayList<>(newParts));
+		partsById = new HashMap<>(parts.size() * 2);
+		List<PartDefinition> newCommandModules = new ArrayList<>();
+		List<PartDefinition> newFuselages = new ArrayList<>();
+		List<PartDefinition> newEngines = new ArrayList<>();
+		for(PartDefinition part : parts) {
+			if(partsById.put(part.getId(), part) != null) {
+				throw new IllegalArgumentException("The part id '" + part.getId() + "' is used more than once.");
+			}
+			switch(part.getType()) {
+				case COMMAND_MODULE:
+					newCommandModules.add(part);
+					break;
+				case FUSELAGE:
+					newFuselages.add(part);
+					break;
+				default:
+					newEngines.add(part);
+			}
+		}
+		commandModules = Collections.unmodifiableList(newCommandModules);
+		fuselages = Collections.unmodifiableList(newFuselages);
+		engines = Collections.unmodifiableList(newEngines);
+	}
+
+	public static synchronized PartCatalog getDefault() { //Loaded the first time it's needed, then shared
+		if(defaultCatalog == null) {
+			try {
+				defaultCatalog = load(readSource(), CACHE_FILE);
+			} catch(IOException e) {
+				throw new IllegalStateException("Unable to load " + SOURCE_NAME + ".", e);
+			}
+		}
+		return defaultCatalog;
+	}
+
+	public static PartCatalog load(byte[] source, File cacheFile) { //Uses the cache if it was built from this exact source
+		CRC32 crc = new CRC32();
+		crc.update(source);
+		long checksum = crc.getValue();
+		
+		PartCatalog catalog = readCache(cacheFile, checksum, source.length);
+		if(catalog == null) {
+			catalog = parse(source);
+			catalog.writeCache(cacheFile, checksum, source.length);
+		}
+		return catalog;
+	}
+
+	public static PartCatalog parse(byte[] source) { //Throws IllegalArgumentException, with the line number, for a bad line
+		String text = new String(source, StandardCharsets.UTF_8);
+		List<PartDefinition> newParts = new ArrayList<>();
+		int lineNumber = 0;
+		int start = 0;
+		while(start < text.length()) {
+			int end = text.indexOf('\n', start);
+			if(end < 0) {
+				end = text.length();
+			}
+			lineNumber++;
+			String line = text.substring(start, end).trim();
+			start = end + 1;
+			if(line.isEmpty() || line.startsWith("#")) {
+				continue;
+			}
+			newParts.add(parseDefinition(line, lineNumber));
+		}
+		return new PartCatalog(newParts);
+	}
+
+	public PartDefinition get(String id) { //Null if there is no such part
+		return partsById.get(id);
+	}
+
+	public static boolean isIndex(String column) { //Ids are never plain numbers, so old saves that used indexes can be told apart
+		if(column.isEmpty()) {
+			return false;
+		}
+		for(int i = 0; i < column.length(); i++) {
+			if(!Character.isDigit(column.charAt(i))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	//New instances every call, in catalog order
+	public static List<CommandModule> createCommandModules() {
+		List<CommandModule> newCommandModules = new ArrayList<>();
+		for(PartDefinition part : getDefault().getCommandModules()) {
+			newCommandModules.add((CommandModule)part.create());
+		}
+		return newCommandModules;
+	}
+
+	public static List<Fuselage> createFuselages() {
+		List<Fuselage> newFuselages = new ArrayList<>();
+		for(PartDefinition part : getDefault().getFuselages()) {
+			newFuselages.add((Fuselage)part.create());
+		}
+		return newFuselages;
+	}
+
+	public static List<Engine> createEngines() {
+		List<Engine> newEngines = new ArrayList<>();
+		for(PartDefinition part : getDefault().getEngines()) {
+			newEngines.add((Engine)part.create());
+		}
+		return newEngines;
+	}
+
+	private static byte[] readSource() throws IOException {
+		File file = new File(SOURCE_NAME);
+		if(file.isFile()) {
+			return Files.readAllBytes(file.toPath());
+		}
+		try(InputStream in = PartCatalog.class.getResourceAsStream("/" + SOURCE_NAME)) {
+			if(in == null) {
+				throw new IOException("There is no " + SOURCE_NAME + " in the working directory or on the classpath.");
+			}
+			return in.readAllBytes();
+		}
+	}
+
+	private static PartCatalog readCache(File cacheFile, long checksum, int sourceLength) { //Null if missing, stale or unreadable
+		if(!cacheFile.isFile()) {
+			return null;
+		}
+		try(DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(cacheFile)))) {
+			if(in.readInt() != CACHE_MAGIC || in.readInt() != CACHE_VERSION || in.readLong() != checksum || in.readInt() != sourceLength) {
+				return null;
+			}
+			PartType[] types = PartType.values();
+			int count = in.readInt();
+			List<PartDefinition> newParts = new ArrayList<>(count);
+			for(int i = 0; i < count; i++) {
+				PartType type = types[in.readByte()];
+				String id = in.readUTF();
+				String name = in.readUTF();
+				double mass = in.readDouble();
+				double width = in.readDouble();
+				double height = in.readDouble();
+				Color color = new Color(in.readDouble(), in.readDouble(), in.readDouble(), in.readDouble());
+				double[] stats = new double[type.statCount];
+				for(int j = 0; j < stats.length; j++) {
+					stats[j] = in.readDouble();
+				}
+				newParts.add(new PartDefinition(type, id, name, mass, width, height, color, stats));
+			}
+			return new PartCatalog(newParts);
+		} catch(EOFException | RuntimeException e) {
+			System.out.println("Ignoring a damaged " + cacheFile.getName() + ", rebuilding it.");
+			return null;
+		} catch(IOException e) {
+			System.out.println("Unable to read " + cacheFile.getName() + ", rebuilding it.");
+			e.printStackTrace();
+			return null;
+		}
+	}
+
+	private void writeCache(File cacheFile, long checksum, int sourceLength) { //Failing only costs the next start a parse
+		File temp = new File(cacheFile.getPath() + ".tmp");
+		try(DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+			out.writeInt(CACHE_MAGIC);
+			out.writeInt(CACHE_VERSION);
+			out.writeLong(checksum);
+			out.writeInt(sourceLength);
+			out.writeInt(parts.size());
+			for(PartDefinition part : parts) {
+				out.writeByte(part.getType().ordinal());
+				out.writeUTF(part.getId());
+				out.writeUTF(part.getName());
+				out.writeDouble(part.getMass());
+				out.writeDouble(part.getWidth());
+				out.writeDouble(part.getHeight());
+				out.writeDouble(part.getColor().getRed());
+				out.writeDouble(part.getColor().getGreen());
+				out.writeDouble(part.getColor().getBlue());
+				out.writeDouble(part.getColor().getOpacity());
+				for(int i = 0; i < part.getType().statCount; i++) {
+					out.writeDouble(part.getStat(i));
+				}
+			}
+		} catch(IOException e) {
+			System.out.println("Unable to write " + cacheFile.getName() + ".");
+			e.printStackTrace();
+			return;
+		}
+		try {
+			Files.move(temp.toPath(), cacheFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch(IOException e) {
+			System.out.println("Unable to write " + cacheFile.getName() + ".");
+			e.printStackTrace();
+			temp.delete();
+		}
+	}
+
+	private static PartDefinition parseDefinition(String line, int lineNumber) {
+		String[] columns = line.split(",", -1);
+		try {
+			PartType type = null;
+			for(PartType candidate : PartType.values()) {
+				if(candidate.key.equals(columns[0].trim())) {
+					type = candidate;
+				}
+			}
+			if(type == null) {
+				throw new IllegalArgumentException("unknown part type '" + columns[0].trim() + "'");
+			}
+			if(columns.length != 7 + type.statCount) {
+				throw new IllegalArgumentException("expected " + (7 + type.statCount) + " columns, found " + columns.length);
+			}
+			String id = columns[1].trim();
+			if(id.isEmpty() || isIndex(id)) {
+				throw new IllegalArgumentException("'" + id + "' can't be used as an id");
+			}
+			double[] stats = new double[type.statCount];
+			for(int i = 0; i < stats.length; i++) {
+				stats[i] = Double.parseDouble(columns[7 + i].trim());
+			}
+			return new PartDefinition(type, id, columns[2].trim(), Double.parseDouble(columns[3].trim()),
+					Double.parseDouble(columns[4].trim()), Double.parseDouble(columns[5].trim()), Color.web(columns[6].trim()), stats);
+		} catch(IllegalArgumentException e) { //Also covers NumberFormatException and bad colors
+			throw new IllegalArgumentException(SOURCE_NAME + " line " + lineNumber + ": " + e.getMessage(), e);
+		}
+	}
+
+	//Getters
+	public List<PartDefinition> getParts() {
+		return parts;
+	}
+
+	public List<PartDefinition> getCommandModules() {
+		return commandModules;
+	}
+
+	public List<PartDefinition> getFuselages() {
+		return fuselages;
+	}
+
+	public List<PartDefinition> getEngines() {
+		return engines;
+	}
+
+}
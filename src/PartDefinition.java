@@ -0,0 +1,107 @@
+//***************************************************************
+// Class: PartDefinition
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Immutable description of one part of the catalog, creates the Part instances rockets are built from
+//
+// Attributes:  -type: PartType
+//				-id: String
+//				-name: String
+//				-mass: double
+//				-width: double
+//				-height: double
+//				-color: Color
+//				-stats: double[]
+//
+// Methods: +create(): Part
+//
+//**************************************************************
+
+import java.util.Arrays;
+
+import javafx.scene.paint.Color;
+
+public class PartDefinition {
+	
+	private final PartType type;
+	private final String id; //Stable, saved rockets reference parts by it
+	private final String name;
+	private final double mass;
+	private final double width;
+	private final double height;
+	private final Color color;
+	private final double[] stats;
+	
+	public PartDefinition(PartType newType, String newId, String newName, double newMass, double newWidth, double newHeight, Color newColor, double[] newStats) {
+		if(newStats.length != newType.statCount) {
+			throw new IllegalArgumentException("A " + newType.key + " part needs " + newType.statCount + " stats, '" + newId + "' has " + newStats.length + ".");
+		}
+		type = newType;
+		id = newId.intern(); //Interned since every design and lookup repeats the same few ids
+		name = newName;
+		mass = newMass;
+		width = newWidth;
+		height = newHeight;
+		color = newColor;
+		stats = newStats.clone();
+	}
+
+	public Part create() { //A new part each call, parts track state like their fuel level
+		switch(type) {
+			case COMMAND_MODULE:
+				return new CommandModule(mass, width, height, name, color, stats[0]);
+			case FUSELAGE:
+				return new Fuselage(mass, width, height, name, color, stats[0], stats[1]);
+			case SOLID_ENGINE:
+				return new SolidEngine(mass, width, height, name, color, stats[0]);
+			case LIQUID_ENGINE:
+				return new LiquidEngine(mass, width, height, name, color, stats[0]);
+			default:
+				throw new IllegalStateException("This should never happen.");
+		}
+	}
+
+	@Override
+	public String toString() {
+		return id;
+	}
+
+	//Getters
+	public PartType getType() {
+		return type;
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public double getMass() {
+		return mass;
+	}
+
+	public double getWidth() {
+		return width;
+	}
+
+	public double getHeight() {
+		return height;
+	}
+
+	public Color getColor() {
+		return color;
+	}
+
+	public double[] getStats() {
+		return Arrays.copyOf(stats, stats.length);
+	}
+
+	public double getStat(int index) {
+		return stats[index];
+	}
+
+}
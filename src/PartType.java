@@ -0,0 +1,26 @@
+//***************************************************************
+// Class: PartType
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Kinds of part in the catalog, with how they are written in Parts.csv
+//
+// Attributes:  +key: String
+//				+statCount: int
+//
+//**************************************************************
+
+public enum PartType {
+	COMMAND_MODULE("command", 1),
+	FUSELAGE("fuselage", 2),
+	SOLID_ENGINE("solid", 1),
+	LIQUID_ENGINE("liquid", 1);
+	
+	public final String key; //How the type is written in the catalog
+	public final int statCount; //Type specific values after the color
+	
+	PartType(String newKey, int newStatCount) {
+		key = newKey;
+		statCount = newStatCount;
+	}
+}
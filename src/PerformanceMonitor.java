@@ -0,0 +1,151 @@
+//***************************************************************
+// Class: PerformanceMonitor
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Measures the physics, rendering, frame pacing, allocation and garbage collection of a run
+//
+// Attributes:  -metrics: MetricsRegistry
+//				-stepTime, tickTime, renderTime, pulseInterval, allocationRate: Histogram
+//				-droppedFrames, garbageCollections, garbageCollectionTime: AtomicLong
+//				-frameNanos: long
+//				-lastPulse: long
+//				-simulationAllocatedBytes: long
+//
+// Methods: +recordTick(long, long): void,
+//			+recordFrame(long, long): boolean,
+//			+reset(): void,
+//			+getSummary(): String,
+//			-sampleMemory(long): void,
+//			-currentThreadAllocatedBytes(): long
+//
+//**************************************************************
+
+//recordTick is called from the simulation thread and recordFrame from the FX thread, each histogram has only one of them as its writer.
+//Allocation is measured per thread, so it only counts those two threads (which are the only ones doing work during a run).
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class PerformanceMonitor {
+	
+	private static final long SAMPLE_NANOS = 500000000L; //How often allocation and GC are sampled and the summary can change
+	
+	private final MetricsRegistry metrics = new MetricsRegistry();
+	private final Histogram stepTime = metrics.histogram("physics.step", "ns");
+	private final Histogram tickTime = metrics.histogram("physics.tick", "ns");
+	private final Histogram renderTime = metrics.histogram("render.frame", "ns");
+	private final Histogram pulseInterval = metrics.histogram("fx.pulseInterval", "ns");
+	private final Histogram allocationRate = metrics.histogram("memory.allocationRate", "bytes/s");
+	private final AtomicLong droppedFrames = metrics.counter("fx.droppedFrames");
+	private final AtomicLong garbageCollections = metrics.counter("gc.collections");
+	private final AtomicLong garbageCollectionTime = metrics.counter("gc.timeMillis");
+	
+	private final long frameNanos; //Expected time between pulses
+	private final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+	private final List<GarbageCollectorMXBean> collectors = ManagementFactory.getGarbageCollectorMXBeans();
+	
+	private long lastPulse = 0;
+	private long lastSample = 0;
+	private long lastAllocatedBytes = -1;
+	private long lastCollections = 0;
+	private long lastCollectionTime = 0;
+	private volatile long simulationAllocatedBytes = 0; //Written by the simulation thread after every tick
+	
+	public PerformanceMonitor(double framesPerSecond) {
+		frameNanos = Math.round(1000000000L / framesPerSecond);
+	}
+
+	//A tick of the simulation loop that took 'nanos' and ran 'steps' steps
+	public void recordTick(long nanos, long steps) {
+		tickTime.record(nanos);
+		if(steps > 0) {
+			stepTime.record(nanos / steps);
+		}
+		simulationAllocatedBytes = currentThreadAllocatedBytes();
+	}
+
+	//A pulse at 'now' that spent 'nanos' rendering, returns true when the summary has new numbers
+	public boolean recordFrame(long now, long nanos) {
+		renderTime.record(nanos);
+		if(lastPulse != 0) {
+			long interval = now - lastPulse;
+			pulseInterval.record(interval);
+			long missed = Math.round(interval / (double)frameNanos) - 1;
+			if(missed > 0) {
+				droppedFrames.addAndGet(missed);
+			}
+		}
+		lastPulse = now;
+		
+		if(now - lastSample >= SAMPLE_NANOS) {
+			sampleMemory(now);
+			return true;
+		}
+		return false;
+	}
+
+	public void reset() { //Only while the simulation loop is stopped
+		metrics.reset();
+		lastPulse = 0;
+		lastSample = 0;
+		lastAllocatedBytes = -1;
+		lastCollections = 0;
+		lastCollectionTime = 0;
+		simulationAllocatedBytes = 0;
+	}
+
+	public String getSummary() {
+		return String.format("Step: %.1f / %.1f us (p50 / p99)%n", stepTime.getPercentile(50) / 1000.0, stepTime.getPercentile(99) / 1000.0)
+				+ String.format("Render: %.2f / %.2f ms%n", renderTime.getPercentile(50) / 1000000.0, renderTime.getPercentile(99) / 1000000.0)
+				+ String.format("Pulse: %.1f / %.1f ms%n", pulseInterval.getPercentile(50) / 1000000.0, pulseInterval.getPercentile(99) / 1000000.0)
+				+ "Dropped Frames: " + droppedFrames.get() + String.format("%n")
+				+ (lastAllocatedBytes < 0 ? "Allocation: unavailable" : String.format("Allocation: %.1f MB/s", allocationRate.getPercentile(50) / 1000000.0)) + String.format("%n")
+				+ "GC: " + garbageCollections.get() + " (" + garbageCollectionTime.get() + " ms)";
+	}
+
+	private void sampleMemory(long now) { //FX thread
+		long allocatedBytes = currentThreadAllocatedBytes();
+		if(allocatedBytes >= 0) {
+			allocatedBytes += simulationAllocatedBytes;
+			if(lastAllocatedBytes >= 0 && lastSample != 0 && allocatedBytes >= lastAllocatedBytes) {
+				allocationRate.record(Math.round((allocatedBytes - lastAllocatedBytes) * 1000000000.0 / (now - lastSample)));
+			}
+			lastAllocatedBytes = allocatedBytes;
+		}
+
+		long collections = 0;
+		long collectionTime = 0;
+		for(GarbageCollectorMXBean collector : collectors) {
+			collections += Math.max(0, collector.getCollectionCount());
+			collectionTime += Math.max(0, collector.getCollectionTime());
+		}
+		if(lastSample != 0) {
+			garbageCollections.addAndGet(collections - lastCollections);
+			garbageCollectionTime.addAndGet(collectionTime - lastCollectionTime);
+		}
+		lastCollections = collections;
+		lastCollectionTime = collectionTime;
+		lastSample = now;
+	}
+
+	private long currentThreadAllocatedBytes() { //-1 when the JVM can't measure it
+		if(threads instanceof com.sun.management.ThreadMXBean) {
+			return ((com.sun.management.ThreadMXBean)threads).getCurrentThreadAllocatedBytes();
+		}
+		return -1;
+	}
+
+	//Getters
+	public MetricsRegistry getMetrics() {
+		return metrics;
+	}
+
+	public long getDroppedFrames() {
+		return droppedFrames.get();
+	}
+
+}
@@ -0,0 +1,151 @@
+//***************************************************************
+// Class: PersistenceService
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Runs all of the saved rocket file work on its own thread so the panes never wait on the disk
+//
+// Attributes:  -store: RocketDesignStore
+//				-executor: ScheduledExecutorService
+//				-callbackExecutor: Executor
+//				-pendingWrites: List<PendingWrite>
+//				-flushScheduled: boolean
+//
+// Methods: +load(): CompletableFuture<Void>,
+//			+save(RocketDesign): CompletableFuture<Boolean>,
+//			+delete(RocketDesign): CompletableFuture<Boolean>,
+//			+page(RocketDesignCursor, int): CompletableFuture<List<RocketDesign>>,
+//			+close(): void,
+//			-write(RocketDesign, boolean): CompletableFuture<Boolean>,
+//			-flush(): void,
+//			-onCallbackThread(CompletableFuture<T>): CompletableFuture<T>
+//
+//**************************************************************
+
+//Every method returns right away. The work runs on the "Design I/O" thread, which is the only thread that touches the store,
+//and the returned future completes on the callback executor (Platform::runLater for the panes).
+//Saves and deletes are held for COALESCE_MILLIS so a burst of them is applied together and made durable with one sync.
+//Their futures complete once they are on disk. Reads apply anything still held first, so they always see earlier writes.
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+public class PersistenceService {
+	
+	private static final long COALESCE_MILLIS = 50;
+	
+	private static class PendingWrite {
+		private final RocketDesign design;
+		private final boolean save; //False for a delete
+		private final CompletableFuture<Boolean> result = new CompletableFuture<>();
+		
+		private PendingWrite(RocketDesign newDesign, boolean newSave) {
+			design = newDesign;
+			save = newSave;
+		}
+	}
+
+	private final RocketDesignStore store;
+	private final ScheduledExecutorService executor;
+	private final Executor callbackExecutor;
+	private List<PendingWrite> pendingWrites = new ArrayList<>(); //Guarded by 'this'
+	private boolean flushScheduled = false; //Guarded by 'this'
+	
+	public PersistenceService(RocketDesignStore newStore, Executor newCallbackExecutor) {
+		store = newStore;
+		callbackExecutor = newCallbackExecutor;
+		executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "Design I/O");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	public CompletableFuture<Void> load() {
+		return onCallbackThread(CompletableFuture.runAsync(store::load, executor));
+	}
+
+	public CompletableFuture<Boolean> save(RocketDesign design) { //False if the exact same design was already saved
+		return write(design, true);
+	}
+
+	public CompletableFuture<Boolean> delete(RocketDesign design) { //False if it wasn't saved
+		return write(design, false);
+	}
+
+	public CompletableFuture<List<RocketDesign>> page(RocketDesignCursor cursor, int count) {
+		return onCallbackThread(CompletableFuture.supplyAsync(() -> {
+			flush();
+			return cursor.next(count);
+		}, executor));
+	}
+
+	public void close() { //Writes out everything held and closes the store, waits for it so only call it when exiting
+		try {
+			executor.submit(() -> {
+				flush();
+				store.close();
+			}).get();
+		} catch(Exception e) {
+			System.out.println("Unable to finish writing saved rockets.");
+			e.printStackTrace();
+		}
+		executor.shutdown();
+	}
+
+	private CompletableFuture<Boolean> write(RocketDesign design, boolean save) {
+		PendingWrite write = new PendingWrite(design, save);
+		synchronized(this) {
+			pendingWrites.add(write);
+			if(!flushScheduled) {
+				flushScheduled = true;
+				executor.schedule(this::flush, COALESCE_MILLIS, TimeUnit.MILLISECONDS);
+			}
+		}
+		return onCallbackThread(write.result);
+	}
+
+	private void flush() { //Design I/O thread
+		List<PendingWrite> batch;
+		synchronized(this) {
+			batch = pendingWrites;
+			pendingWrites = new ArrayList<>();
+			flushScheduled = false;
+		}
+		if(batch.isEmpty()) {
+			return;
+		}
+
+		boolean[] results = new boolean[batch.size()];
+		try {
+			for(int i = 0; i < batch.size(); i++) {
+				PendingWrite write = batch.get(i);
+				results[i] = write.save ? store.save(write.design) : store.delete(write.design);
+			}
+			store.sync(); //One fsync for the whole batch
+		} catch(RuntimeException e) {
+			for(PendingWrite write : batch) {
+				write.result.completeExceptionally(e);
+			}
+			return;
+		}
+		for(int i = 0; i < batch.size(); i++) {
+			batch.get(i).result.complete(results[i]);
+		}
+	}
+
+	private <T> CompletableFuture<T> onCallbackThread(CompletableFuture<T> future) {
+		return future.whenCompleteAsync((result, error) -> {}, callbackExecutor);
+	}
+
+	//Getters
+	public RocketDesignStore getStore() {
+		return store;
+	}
+
+}
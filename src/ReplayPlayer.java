@@ -0,0 +1,275 @@
+//***************************************************************
+// Class: ReplayPlayer
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Reads a replay file written by ReplayRecorder and reruns it headless as fast as possible
+//
+// Attributes:  -buffer: ByteBuffer
+//				-timeStep: double
+//				-bodyMass: double
+//				-bodyRadius: double
+//				-integratorType: IntegratorType
+//				-analyticCoast: boolean
+//				-commandModule: PartDefinition
+//				-fuselage: PartDefinition
+//				-engine: PartDefinition
+//				-startingAltitude: int
+//				-recordedState: double[]
+//				-recordedLanded: boolean
+//
+// Methods: +play(): GameManager,
+//			+play(SimulationObserver): GameManager,
+//			+matchesRecording(GameManager): boolean,
+//			-advanceTo(GameManager, long, boolean): void,
+//			-readVarLong(): long,
+//			-readPart(File, PartType...): PartDefinition,
+//			+main(String[]): void
+//
+//**************************************************************
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+public class ReplayPlayer {
+	
+	private final ByteBuffer buffer;
+	private final int recordsStart;
+	
+	private final double timeStep;
+	private final double bodyMass;
+	private final double bodyRadius;
+	private final IntegratorType integratorType;
+	private final boolean analyticCoast;
+	private final PartDefinition commandModule;
+	private final PartDefinition fuselage;
+	private final PartDefinition engine;
+	private final int startingAltitude;
+	
+	//Filled in by play() from the trailer, same order as the recorder writes it
+	private final double[] recordedState = new double[7];
+	private boolean recordedLanded = false;
+	
+	public ReplayPlayer(File file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) { //Replays are only a few kilobytes
+			buffer = ByteBuffer.allocate((int)channel.size());
+			while(buffer.hasRemaining() && channel.read(buffer) >= 0) {
+			}
+			buffer.flip();
+		}
+
+		if(buffer.remaining() < 5 || buffer.getInt() != ReplayRecorder.MAGIC) {
+			throw new IOException("'" + file.getName() + "' is not a replay file.");
+		}
+		byte version = buffer.get();
+		if(version != ReplayRecorder.VERSION) {
+			throw new IOException("'" + file.getName() + "' has unsupported replay version " + version + ".");
+		}
+		timeStep = buffer.getDouble();
+		bodyMass = buffer.getDouble();
+		bodyRadius = buffer.getDouble();
+		IntegratorType[] integratorTypes = IntegratorType.values();
+		int integrator = buffer.get();
+		if(integrator < 0 || integrator >= integratorTypes.length) {
+			throw new IOException("'" + file.getName() + "' uses an unknown integrator.");
+		}
+		integratorType = integratorTypes[integrator];
+		analyticCoast = buffer.get() != 0;
+		commandModule = readPart(file, PartType.COMMAND_MODULE);
+		fuselage = readPart(file, PartType.FUSELAGE);
+		engine = readPart(file, PartType.SOLID_ENGINE, PartType.LIQUID_ENGINE);
+		startingAltitude = (int)readVarLong();
+		recordsStart = buffer.position();
+	}
+
+	public GameManager play() {
+		return play(null);
+	}
+
+	//Sets up a fresh GameManager with the recorded conditions and feeds it the recorded controls on the same steps.
+	//An 'observer' (e.g. a TelemetryWriter) is notified after every single step, which gives the same result, only slower.
+	public GameManager play(SimulationObserver observer) {
+		Body body = new Body();
+		body.setMass(bodyMass);
+		body.setRadius(bodyRadius);
+		
+		GameManager gameManager = new GameManager(timeStep);
+		gameManager.setAnalyticCoast(analyticCoast);
+		Rocket rocket = gameManager.getPlayer();
+		rocket.setCurrentBody(body);
+		rocket.setIntegrator(integratorType.create());
+		rocket.setCommandModule((CommandModule)commandModule.create());
+		rocket.setFuselage((Fuselage)fuselage.create());
+		rocket.setEngine((Engine)engine.create());
+		rocket.setStartingAltitude(startingAltitude);
+		gameManager.resetMathModel();
+		if(observer != null) {
+			gameManager.addObserver(observer);
+		}
+
+		ControlType[] types = ControlType.values();
+		double[] lastValues = new double[types.length];
+		long step = 0;
+		buffer.position(recordsStart);
+		while(true) {
+			long record = readVarLong();
+			int tag = (int)(record & ((1 << ReplayRecorder.TAG_BITS) - 1));
+			step += record >>> ReplayRecorder.TAG_BITS;
+			advanceTo(gameManager, step, observer != null);
+			if(tag == ReplayRecorder.END) {
+				break;
+			}
+
+			int type = tag & ReplayRecorder.TYPE_MASK;
+			if((tag & ReplayRecorder.VALUE_FOLLOWS) != 0) {
+				lastValues[type] = buffer.getDouble();
+			}
+			else if((tag & ReplayRecorder.NEGATED) != 0) {
+				lastValues[type] = -lastValues[type];
+			}
+			if(!gameManager.submitControl(types[type], lastValues[type])) {
+				throw new IllegalStateException("More controls on one step than the control queue holds.");
+			}
+		}
+
+		for(int i = 0; i < recordedState.length; i++) {
+			recordedState[i] = buffer.getDouble();
+		}
+		recordedLanded = buffer.get() != 0;
+		return gameManager;
+	}
+
+	//True if 'gameManager' (from play()) ended in exactly the recorded state, bit for bit
+	public boolean matchesRecording(GameManager gameManager) {
+		Rocket player = gameManager.getPlayer();
+		double[] state = {gameManager.getSimulationTime(), player.getXPosition(), player.getYPosition(), player.getXVelocity(), player.getYVelocity(),
+				player.getRotationAngleInDegrees(), player.getFuselage().getFuelLevel()};
+		
+		boolean matches = gameManager.hasLanded() == recordedLanded;
+		for(int i = 0; i < state.length; i++) {
+			matches &= Double.doubleToRawLongBits(state[i]) == Double.doubleToRawLongBits(recordedState[i]);
+		}
+		return matches;
+	}
+
+	private void advanceTo(GameManager gameManager, long step, boolean everyStep) { //Queued controls are applied at the start of the next step
+		while(!gameManager.hasLanded() && gameManager.getStepCount() < step) {
+			gameManager.simulate(everyStep ? 1 : (int)Math.min(Integer.MAX_VALUE, step - gameManager.getStepCount()), Long.MAX_VALUE);
+		}
+	}
+
+	private long readVarLong() {
+		long value = 0;
+		int shift = 0;
+		byte next;
+		do {
+			next = buffer.get();
+			value |= (long)(next & 0x7F) << shift;
+			shift += 7;
+		} while((next & 0x80) != 0);
+		return value;
+	}
+
+	private PartDefinition readPart(File file, PartType... types) throws IOException { //Looked up by id, so the catalog may be reordered or grown
+		byte[] bytes = new byte[(int)readVarLong()];
+		buffer.get(bytes);
+		String id = new String(bytes, StandardCharsets.UTF_8);
+		PartDefinition part = PartCatalog.getDefault().get(id);
+		if(part != null) {
+			for(PartType type : types) {
+				if(part.getType() == type) {
+					return part;
+				}
+			}
+		}
+		throw new IOException("'" + file.getName() + "' uses the part '" + id + "', which is missing from the catalog or the wrong kind of part.");
+	}
+
+	//Usage: ReplayPlayer [--telemetry] <replay file or directory>...
+	//Reruns every replay and reports whether it still lands exactly as recorded, for checking physics changes.
+	//With --telemetry every step of each replay is also written to a telemetry file next to it.
+	public static void main(String[] args) {
+		int replays = 0;
+		int mismatches = 0;
+		boolean telemetry = false;
+		for(String arg : args) {
+			if(arg.equals("--telemetry")) {
+				telemetry = true;
+				continue;
+			}
+			File path = new File(arg);
+			File[] files = path.isDirectory() ? path.listFiles((directory, name) -> name.endsWith(ReplayRecorder.EXTENSION)) : new File[] {path};
+			if(files == null) {
+				continue;
+			}
+			for(File file : files) {
+				try {
+					ReplayPlayer player = new ReplayPlayer(file);
+					TelemetryWriter telemetryWriter = null;
+					if(telemetry) {
+						telemetryWriter = new TelemetryWriter(new File(file.getPath().replace(ReplayRecorder.EXTENSION, TelemetryWriter.EXTENSION)), player.getTimeStep());
+						telemetryWriter.setLossless(true); //Nothing is waiting on a headless replay
+					}
+					long startTime = System.nanoTime();
+					GameManager gameManager = player.play(telemetryWriter);
+					boolean matches = player.matchesRecording(gameManager);
+					if(telemetryWriter != null) {
+						telemetryWriter.close();
+					}
+
+					replays++;
+					if(!matches) {
+						mismatches++;
+					}
+					System.out.printf("%-40s %-8s t = %.3f s, speed = %.3f m/s, %.2f ms%n", file.getName(), matches ? "match" : "MISMATCH",
+							gameManager.getSimulationTime(), gameManager.getPlayer().calculateSpeed(), (System.nanoTime() - startTime) / 1e6);
+				} catch(IOException e) {
+					System.out.println("Unable to read '" + file.getName() + "': " + e.getMessage());
+				}
+			}
+		}
+		System.out.println(replays + " replays, " + mismatches + " mismatches");
+	}
+
+	//Getters
+	public double getTimeStep() {
+		return timeStep;
+	}
+
+	public double getBodyMass() {
+		return bodyMass;
+	}
+
+	public double getBodyRadius() {
+		return bodyRadius;
+	}
+
+	public IntegratorType getIntegratorType() {
+		return integratorType;
+	}
+
+	public boolean isAnalyticCoast() {
+		return analyticCoast;
+	}
+
+	public PartDefinition getCommandModule() {
+		return commandModule;
+	}
+
+	public PartDefinition getFuselage() {
+		return fuselage;
+	}
+
+	public PartDefinition getEngine() {
+		return engine;
+	}
+
+	public int getStartingAltitude() {
+		return startingAltitude;
+	}
+
+}
@@ -0,0 +1,191 @@
+//***************************************************************
+// Class: ReplayRecorder
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Records the initial conditions and every applied control of a run to a compact binary replay file
+//
+// Attributes:  -channel: FileChannel
+//				-buffer: ByteBuffer
+//				-gameManager: GameManager
+//				-lastStep: long
+//				-lastValues: double[]
+//				-closed: boolean
+//
+// Methods: +onStep(GameManager): void,
+//			+onLanding(GameManager): void,
+//			+onControl(GameManager, ControlType, double): void,
+//			+close(): void,
+//			-writeRecord(long, int): void,
+//			-writeVarLong(long): void,
+//			-writeString(String): void,
+//			-ensureRemaining(int): void,
+//			-flush(): void
+//
+//**************************************************************
+
+//File layout (see ReplayPlayer for reading it back):
+//	Header:  magic (int), version (byte), time step, body mass, body radius (doubles), integrator type, analytic coast (bytes),
+//			 command module, fuselage, engine id (varint length then UTF-8), starting altitude (varint)
+//	Records: varint of (steps since the last record << 4 | tag), tag bits 0-1 are the control type,
+//			 bit 2 means the raw value follows (8 bytes), bit 3 means the value is the negated last value of that type,
+//			 neither means it repeats the last value of that type. Tag END closes the file.
+//	Trailer: simulation time, x, y, x velocity, y velocity, rotation, fuel (doubles), landed (byte)
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+public class ReplayRecorder implements SimulationObserver {
+	
+	public static final int MAGIC = 0x4C535250; //"LSRP"
+	public static final byte VERSION = 2; //1 saved the parts as indexes into the catalog, without the integrator or coast setting
+	public static final String EXTENSION = ".lsr";
+	
+	public static final int TYPE_MASK = 0x3;
+	public static final int VALUE_FOLLOWS = 0x4;
+	public static final int NEGATED = 0x8;
+	public static final int END = VALUE_FOLLOWS | NEGATED | TYPE_MASK; //Never a valid control
+	public static final int TAG_BITS = 4;
+	
+	private final FileChannel channel;
+	private final ByteBuffer buffer = ByteBuffer.allocate(8192);
+	private final GameManager gameManager;
+	
+	private long lastStep = 0;
+	private final double[] lastValues = new double[ControlType.values().length];
+	private boolean closed = false;
+	
+	//Writes the header straight away, call before the first step of the run. The parts are their PartCatalog ids.
+	//Throws IllegalArgumentException if the rocket's integrator isn't one of the IntegratorTypes, since it couldn't be replayed.
+	public ReplayRecorder(File file, GameManager newGameManager, String commandModuleId, String fuselageId, String engineId) throws IOException {
+		gameManager = newGameManager;
+		IntegratorType integratorType = IntegratorType.of(gameManager.getPlayer().getIntegrator());
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		
+		Rocket player = gameManager.getPlayer();
+		buffer.putInt(MAGIC);
+		buffer.put(VERSION);
+		buffer.putDouble(gameManager.timeStep);
+		buffer.putDouble(player.getCurrentBody().getMass());
+		buffer.putDouble(player.getCurrentBody().getRadius());
+		buffer.put((byte)integratorType.ordinal());
+		buffer.put((byte)(gameManager.isAnalyticCoast() ? 1 : 0));
+		writeString(commandModuleId);
+		writeString(fuselageId);
+		writeString(engineId);
+		writeVarLong(player.getStartingAltitude());
+	}
+
+	@Override
+	public void onStep(GameManager gameManager) {
+	}
+
+	@Override
+	public void onLanding(GameManager gameManager) {
+	}
+
+	@Override
+	public void onControl(GameManager gameManager, ControlType type, double value) { //Runs on the simulation thread
+		if(closed) {
+			return;
+		}
+		int tag = type.ordinal();
+		double lastValue = lastValues[type.ordinal()];
+		if(Double.doubleToRawLongBits(value) == Double.doubleToRawLongBits(-lastValue)) {
+			tag |= NEGATED;
+		}
+		else if(Double.doubleToRawLongBits(value) != Double.doubleToRawLongBits(lastValue)) {
+			tag |= VALUE_FOLLOWS;
+		}
+		lastValues[type.ordinal()] = value;
+		
+		try {
+			writeRecord(gameManager.getStepCount(), tag);
+			if((tag & VALUE_FOLLOWS) != 0) {
+				ensureRemaining(Double.BYTES);
+				buffer.putDouble(value);
+			}
+		} catch(IOException e) {
+			System.out.println("Unable to write the replay, recording stopped.");
+			e.printStackTrace();
+			closed = true;
+		}
+	}
+
+	//Writes the final state so a replay can check it reproduced the run exactly. Only call once the simulation has stopped.
+	public void close() {
+		if(closed) {
+			return;
+		}
+		closed = true;
+		
+		Rocket player = gameManager.getPlayer();
+		try {
+			writeRecord(gameManager.getStepCount(), END);
+			ensureRemaining(7 * Double.BYTES + 1);
+			buffer.putDouble(gameManager.getSimulationTime());
+			buffer.putDouble(player.getXPosition());
+			buffer.putDouble(player.getYPosition());
+			buffer.putDouble(player.getXVelocity());
+			buffer.putDouble(player.getYVelocity());
+			buffer.putDouble(player.getRotationAngleInDegrees());
+			buffer.putDouble(player.getFuselage().getFuelLevel());
+			buffer.put((byte)(gameManager.hasLanded() ? 1 : 0));
+			flush();
+		} catch(IOException e) {
+			System.out.println("Unable to finish the replay.");
+			e.printStackTrace();
+		}
+
+		try {
+			channel.close();
+		} catch(IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private void writeRecord(long step, int tag) throws IOException { //Steps are delta encoded, most records are a single byte
+		writeVarLong((step - lastStep) << TAG_BITS | tag);
+		lastStep = step;
+	}
+
+	private void writeVarLong(long value) throws IOException { //7 bits per byte, high bit set on every byte but the last
+		ensureRemaining(10);
+		while((value & ~0x7FL) != 0) {
+			buffer.put((byte)((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		buffer.put((byte)value);
+	}
+
+	private void writeString(String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		writeVarLong(bytes.length);
+		ensureRemaining(bytes.length);
+		buffer.put(bytes);
+	}
+
+	private void ensureRemaining(int bytes) throws IOException {
+		if(buffer.remaining() < bytes) {
+			flush();
+		}
+	}
+
+	private void flush() throws IOException {
+		buffer.flip();
+		while(buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+	//Getters
+	public boolean isClosed() {
+		return closed;
+	}
+
+}
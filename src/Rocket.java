@@ -1,7 +1,7 @@
 //***************************************************************
 // Class: Rocket
 // Author: Monstroe
-// Modified: 4/22/2022
+// Modified: 10/18/2026
 //
 // Purpose: Math model of the rocket
 //
@@ -15,22 +15,31 @@
 //				-xVelocity: double,
 //				-yVelocity: double,
 //				-rotationAngleInDegrees: double,
-//				-queuedRotationAngleInDegrees: double
+//				-queuedRotationAngleInDegrees: double,
+//				-integrator: Integrator,
+//				-collider: RocketCollider,
+//				-colliderPoints: double[]
 // 
 // Methods: +calculateGravitationalAcceleration(): double,
 //			+calculateCircularOrbitSpeed(): double,
 //			+calculateThrustAcceleration(double): double,
 //			+calculateVelocity(double): void,
+//			+calculateThrustAcceleration(double, double[]): void,
+//			+calculateAcceleration(double, double, double[], double[]): void,
 //			+updatePosition(double): void,
 //			+updateRotation(): void,
 //			+calculateDistanceToSurface(): double,
 //			+calculateSpeed(): double,
+//			+isCoasting(): boolean,
 //			+hasCollidedWithSurface(): boolean,
 //			+checkCollisionWithSurface(): double,
+//			+calculateTimeOfImpact(double, double): double,
 //			+calculateAngleBetweenGravityAndHorizontal(): double,
 //			+rotate(double): void
 //			+clampRotation(double): double,
-//			+calculateColliderPoints(): double[][]
+//			+calculateColliderPoints(): double[][],
+//			+calculateColliderPoints(double[]): void,
+//			-rebuildCollider(): void
 //
 //**************************************************************
 
@@ -50,8 +59,13 @@ public class Rocket {
 	private double rotationAngleInDegrees = 0.0; //Zero when horizontal and facing to the right (like unit circle)
 	private double queuedRotationAngleInDegrees = 0.0; //Rotation which the user has inputed
 	
+	private Integrator integrator = new SemiImplicitEulerIntegrator();
+	
+	private RocketCollider collider = new RocketCollider();
+	private double[] colliderPoints = new double[RocketCollider.POINT_COUNT * 2]; //Reused every frame
+	
 	public double calculateGravitationalAcceleration() {
-		return currentBody.gravitationalConstant * currentBody.getMass() / Math.pow(calculateDistanceToSurfaceOfBody() + currentBody.getRadius(), 2);
+		return currentBody.gravitationalConstant * currentBody.getMass() / (xPosition * xPosition + yPosition * yPosition);
 	}
 	
 	public double calculateCircularOrbitSpeed() {
@@ -69,17 +83,37 @@ public class Rocket {
 	}
 	
 	public void calculateVelocity(double timeStep) { //CHANGE TO 'updateVelocity()'
-		xVelocity -= (calculateGravitationalAcceleration() * Math.cos(Math.toRadians(calculateAngleBetweenGravityAndHorizontal()))
-				- calculateThrustAcceleration(timeStep) * Math.cos(Math.toRadians(rotationAngleInDegrees))) * timeStep;
-		yVelocity -= (calculateGravitationalAcceleration() * Math.sin(Math.toRadians(calculateAngleBetweenGravityAndHorizontal()))
-				- calculateThrustAcceleration(timeStep) * Math.sin(Math.toRadians(rotationAngleInDegrees))) * timeStep;
+		//Every quantity is computed once; the direction of gravity is the unit vector of the position, so no angles are needed
+		double distanceSquared = xPosition * xPosition + yPosition * yPosition;
+		double inverseDistance = 1 / Math.sqrt(distanceSquared);
+		double gravity = currentBody.gravitationalConstant * currentBody.getMass() / distanceSquared;
+		double thrust = calculateThrustAcceleration(timeStep); //Lowers the fuel, so it must only be called once per step
+		double rotation = Math.toRadians(rotationAngleInDegrees);
+		
+		xVelocity -= (gravity * xPosition * inverseDistance - thrust * Math.cos(rotation)) * timeStep;
+		yVelocity -= (gravity * yPosition * inverseDistance - thrust * Math.sin(rotation)) * timeStep;
 	}
 	
-	public void updatePosition(double timeStep) {
-		calculateVelocity(timeStep);
+	//Thrust for the whole step as {x, y}, lowers the fuel once
+	public void calculateThrustAcceleration(double timeStep, double[] thrustAcceleration) {
+		double acceleration = calculateThrustAcceleration(timeStep);
+		double rotation = Math.toRadians(rotationAngleInDegrees);
 		
-		xPosition += xVelocity * timeStep;
-		yPosition += yVelocity * timeStep;
+		thrustAcceleration[0] = acceleration * Math.cos(rotation);
+		thrustAcceleration[1] = acceleration * Math.sin(rotation);
+	}
+	
+	//Gravity at (x, y) plus a thrust that is held constant over the step, written into 'acceleration' as {x, y}
+	public void calculateAcceleration(double x, double y, double[] thrustAcceleration, double[] acceleration) {
+		double distanceSquared = x * x + y * y;
+		double gravity = currentBody.gravitationalConstant * currentBody.getMass() / (distanceSquared * Math.sqrt(distanceSquared)); //Divided by r once more to scale the position into a unit vector
+		
+		acceleration[0] = -gravity * x + thrustAcceleration[0];
+		acceleration[1] = -gravity * y + thrustAcceleration[1];
+	}
+	
+	public void updatePosition(double timeStep) {
+		integrator.integrate(this, timeStep);
 	}
 	
 	public void updateRotation() {
@@ -94,42 +128,36 @@ public class Rocket {
 		return Math.sqrt(xVelocity * xVelocity + yVelocity * yVelocity);  
 	}
 	
+	public boolean isCoasting() { //Only gravity acts on the rocket, so it follows a fixed orbit
+		return engine.getCurrentThrust() == 0 || fuselage.getFuelLevel() <= 0;
+	}
+	
 	public boolean hasCollidedWithSurface() {
 		boolean collided = false;
-		double colliderPoints[][] = calculateColliderPoints();
 		
-		for(int i = 0; i < colliderPoints.length; i++) {
-			double magnitude = Math.sqrt((xPosition + colliderPoints[i][0])*(xPosition + colliderPoints[i][0]) + (yPosition + colliderPoints[i][1])*(yPosition + colliderPoints[i][1]));
-			
-			if(magnitude <= currentBody.getRadius()) {
-				collided = true;
-				//System.out.println("Collider Point: " + i); //DEBUG
-				break;
-			}
+		//Only check every collider point once the rocket is close enough for one of them to touch the surface
+		if(collider.isWithinBoundingRadius(calculateDistanceToSurfaceOfBody())) {
+			collided = collider.hasCollided(xPosition, yPosition, queuedRotationAngleInDegrees, currentBody.getRadius(), colliderPoints);
 		}
-		
 		return collided;
 	}
 	
-	private double calculateAngleBetweenGravityAndHorizontal() {
-		double insideAngle = Math.toDegrees(Math.atan(yPosition / xPosition));
-		double angle = -1;
+	//Fraction of the last step at which the rocket touched the surface on its way from (startX, startY), or -1 if it did not.
+	//Unlike hasCollidedWithSurface() this cannot miss the surface when a large step carries the rocket through it.
+	public double calculateTimeOfImpact(double startX, double startY) {
+		double impact = -1;
 		
-		if(yPosition >= 0) {
-			if(xPosition >= 0) { //Quadrant 1
-				angle = insideAngle;
-			}
-			else { //Quadrant 2
-				angle = 180 + insideAngle;
-			}
+		if(collider.isSweptWithinBoundingRadius(startX, startY, xPosition, yPosition, currentBody.getRadius())) {
+			impact = collider.calculateTimeOfImpact(startX, startY, xPosition, yPosition, queuedRotationAngleInDegrees, currentBody.getRadius(), colliderPoints);
 		}
-		else {
-			if(xPosition < 0) { //Quadrant 3
-				angle = 180 + insideAngle;
-			}
-			else { //Quadrant 4
-				angle = 360 + insideAngle;
-			}
+		return impact;
+	}
+	
+	private double calculateAngleBetweenGravityAndHorizontal() {
+		double angle = Math.toDegrees(Math.atan2(yPosition, xPosition)); //Handles all four quadrants
+		
+		if(angle < 0) { //Quadrants 3 and 4
+			angle = 360 + angle;
 		}
 		return angle;
 	}
@@ -150,31 +178,26 @@ public class Rocket {
 	}
 	
 	public double[][] calculateColliderPoints() {
-		double[][] colliderPoints = new double[6][2];
+		double[][] colliderPoints = new double[RocketCollider.POINT_COUNT][2];
+		double[] points = new double[RocketCollider.POINT_COUNT * 2];
+		calculateColliderPoints(points);
 		
 		//0th position checks the center
+		for(int i = 0; i < colliderPoints.length; i++) {
+			colliderPoints[i][0] = points[i * 2];
+			colliderPoints[i][1] = points[i * 2 + 1];
+		}
+		return colliderPoints;
+	}
 		
-		//Fuselage Front Upper
-		colliderPoints[1][0] = fuselage.getHeight()/2 * Math.cos(Math.toRadians(queuedRotationAngleInDegrees));
-		colliderPoints[1][1] = Math.sqrt((fuselage.getHeight()/2)*(fuselage.getHeight()/2) + (fuselage.getWidth()/2)*(fuselage.getWidth()/2)) * Math.sin(Math.atan(fuselage.getWidth()/fuselage.getHeight()) + Math.toRadians(queuedRotationAngleInDegrees));
-		
-		//Fuselage Front Lower
-		colliderPoints[2][0] = fuselage.getHeight()/2 * Math.cos(Math.toRadians(queuedRotationAngleInDegrees));
-		colliderPoints[2][1] = -Math.sqrt((fuselage.getHeight()/2)*(fuselage.getHeight()/2) + (fuselage.getWidth()/2)*(fuselage.getWidth()/2)) * Math.sin(Math.atan(fuselage.getWidth()/fuselage.getHeight()) - Math.toRadians(queuedRotationAngleInDegrees));
-		
-		//Fuselage Back Lower
-		colliderPoints[3][0] = -(fuselage.getHeight()/2 * Math.cos(Math.toRadians(queuedRotationAngleInDegrees)));
-		colliderPoints[3][1] = -Math.sqrt((fuselage.getHeight()/2)*(fuselage.getHeight()/2) + (fuselage.getWidth()/2)*(fuselage.getWidth()/2)) * Math.sin(Math.atan(fuselage.getWidth()/fuselage.getHeight()) + Math.toRadians(queuedRotationAngleInDegrees));
-				
-		//Fuselage Back Upper
-		colliderPoints[4][0] = -(fuselage.getHeight()/2 * Math.cos(Math.toRadians(queuedRotationAngleInDegrees)));
-		colliderPoints[4][1] = Math.sqrt((fuselage.getHeight()/2)*(fuselage.getHeight()/2) + (fuselage.getWidth()/2)*(fuselage.getWidth()/2)) * Math.sin(Math.atan(fuselage.getWidth()/fuselage.getHeight()) - Math.toRadians(queuedRotationAngleInDegrees));
-		
-		//Engine Back
-		colliderPoints[5][0] = -(engine.getHeight() + fuselage.getHeight()/2) * Math.cos(Math.toRadians(queuedRotationAngleInDegrees));
-		colliderPoints[5][1] = -(engine.getHeight() + fuselage.getHeight()/2) * Math.sin(Math.toRadians(queuedRotationAngleInDegrees));
+	public void calculateColliderPoints(double[] points) { //Allocation free version, {x0, y0, x1, y1, ...}
+		collider.transform(queuedRotationAngleInDegrees, points);
+	}
 		
-		return colliderPoints;
+	private void rebuildCollider() { //Called whenever a part changes
+		if(fuselage != null && engine != null) {
+			collider.rebuild(fuselage, engine);
+		}
 	}
 
 	//Getters/Setters
@@ -192,6 +215,7 @@ public class Rocket {
 
 	public void setCommandModule(CommandModule commandModule) {
 		this.commandModule = commandModule;
+		rebuildCollider();
 	}
 
 	public Fuselage getFuselage() {
@@ -200,6 +224,7 @@ public class Rocket {
 
 	public void setFuselage(Fuselage fuselage) {
 		this.fuselage = fuselage;
+		rebuildCollider();
 	}
 
 	public Engine getEngine() {
@@ -208,6 +233,7 @@ public class Rocket {
 
 	public void setEngine(Engine engine) {
 		this.engine = engine;
+		rebuildCollider();
 	}
 
 	public double getXPosition() {
@@ -266,4 +292,16 @@ public class Rocket {
 		this.queuedRotationAngleInDegrees = queuedRotationAngleInDegrees;
 	}
 
+	public RocketCollider getCollider() {
+		return collider;
+	}
+
+	public Integrator getIntegrator() {
+		return integrator;
+	}
+
+	public void setIntegrator(Integrator integrator) {
+		this.integrator = integrator;
+	}
+
 }
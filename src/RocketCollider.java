@@ -0,0 +1,199 @@
+//***************************************************************
+// Class: RocketCollider
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Collider points of the rocket, precomputed in local space when the parts change
+//
+// Attributes:  -localPoints: double[]
+//				-boundingRadius: double
+//				-broadPhaseChecks: long
+//				-narrowPhaseChecks: long
+//				-narrowPhaseHits: long
+//				-cachedAngleInDegrees: double
+//				-cachedCos: double
+//				-cachedSin: double
+//
+// Methods: +rebuild(Fuselage, Engine): void,
+//			+transform(double, double[]): void,
+//			+isWithinBoundingRadius(double): boolean,
+//			+hasCollided(double, double, double, double, double[]): boolean,
+//			+isSweptWithinBoundingRadius(double, double, double, double, double): boolean,
+//			+calculateTimeOfImpact(double, double, double, double, double, double, double[]): double,
+//			+resetCounters(): void,
+//			+getLocalPoints(): double[],
+//			-updateRotation(double): void
+//
+//**************************************************************
+
+public class RocketCollider {
+	
+	public static final int POINT_COUNT = 6;
+	
+	//{x0, y0, x1, y1, ...} with x along the rocket and y across it, 0th point is the center
+	private final double[] localPoints = new double[POINT_COUNT * 2];
+	private double boundingRadius = 0; //No point can be further than this from the center, whatever the rotation
+	
+	private long broadPhaseChecks = 0;
+	private long narrowPhaseChecks = 0; //Broad phase checks that could not rule out a collision
+	private long narrowPhaseHits = 0;
+	
+	private double cachedAngleInDegrees = Double.NaN;
+	private double cachedCos;
+	private double cachedSin;
+	
+	public void rebuild(Fuselage fuselage, Engine engine) { //Only depends on the part dimensions
+		double halfHeight = fuselage.getHeight() / 2;
+		double halfWidth = fuselage.getWidth() / 2;
+		
+		//Fuselage Front Upper
+		localPoints[2] = halfHeight;
+		localPoints[3] = halfWidth;
+		//Fuselage Front Lower
+		localPoints[4] = halfHeight;
+		localPoints[5] = -halfWidth;
+		//Fuselage Back Lower
+		localPoints[6] = -halfHeight;
+		localPoints[7] = -halfWidth;
+		//Fuselage Back Upper
+		localPoints[8] = -halfHeight;
+		localPoints[9] = halfWidth;
+		//Engine Back
+		localPoints[10] = -(engine.getHeight() + halfHeight);
+		localPoints[11] = 0;
+		
+		//A transformed point is (x * cos, x * sin + y * cos), whose length never exceeds |x| + |y|
+		boundingRadius = 0;
+		for(int i = 0; i < localPoints.length; i += 2) {
+			boundingRadius = Math.max(boundingRadius, Math.abs(localPoints[i]) + Math.abs(localPoints[i + 1]));
+		}
+	}
+
+	public boolean isWithinBoundingRadius(double distanceToSurface) { //Broad phase, false means the narrow phase can be skipped
+		broadPhaseChecks++;
+		boolean within = distanceToSurface - boundingRadius <= 0;
+		if(within) {
+			narrowPhaseChecks++;
+		}
+		return within;
+	}
+
+	//Writes the points relative to the rocket's position into 'points' ({x0, y0, x1, y1, ...}).
+	//Same result as the original per-frame calculation, where the width only moves a point across the rocket (y).
+	public void transform(double angleInDegrees, double[] points) {
+		updateRotation(angleInDegrees);
+		
+		for(int i = 0; i < localPoints.length; i += 2) {
+			points[i] = localPoints[i] * cachedCos;
+			points[i + 1] = localPoints[i] * cachedSin + localPoints[i + 1] * cachedCos;
+		}
+	}
+
+	//'points' is a caller supplied buffer of POINT_COUNT * 2 doubles, so nothing is allocated
+	public boolean hasCollided(double xPosition, double yPosition, double angleInDegrees, double radius, double[] points) {
+		boolean collided = false;
+		double radiusSquared = radius * radius;
+		transform(angleInDegrees, points);
+		
+		for(int i = 0; i < points.length; i += 2) {
+			double x = xPosition + points[i];
+			double y = yPosition + points[i + 1];
+			
+			if(x * x + y * y <= radiusSquared) {
+				collided = true;
+				narrowPhaseHits++;
+				break;
+			}
+		}
+		return collided;
+	}
+
+	//Broad phase for a whole step, the rocket moves in a straight line from start to end
+	public boolean isSweptWithinBoundingRadius(double startX, double startY, double endX, double endY, double radius) {
+		double xChange = endX - startX;
+		double yChange = endY - startY;
+		double lengthSquared = xChange * xChange + yChange * yChange;
+		
+		//Point of the step closest to the center of the body
+		double closest = lengthSquared == 0 ? 0 : Math.max(0, Math.min(1, -(startX * xChange + startY * yChange) / lengthSquared));
+		double x = startX + xChange * closest;
+		double y = startY + yChange * closest;
+		
+		return isWithinBoundingRadius(Math.sqrt(x * x + y * y) - radius);
+	}
+
+	//Fraction (0 to 1) of the step at which the first collider point touches the surface, or -1 if none does.
+	//The rotation is constant during a step, so every point moves along the same straight line as the center.
+	public double calculateTimeOfImpact(double startX, double startY, double endX, double endY, double angleInDegrees, double radius, double[] points) {
+		double impact = -1;
+		double xChange = endX - startX;
+		double yChange = endY - startY;
+		double a = xChange * xChange + yChange * yChange;
+		transform(angleInDegrees, points);
+		
+		//Solve |start + point + change * t| = radius for each point
+		for(int i = 0; i < points.length; i += 2) {
+			double x = startX + points[i];
+			double y = startY + points[i + 1];
+			double b = 2 * (x * xChange + y * yChange);
+			double c = x * x + y * y - radius * radius;
+			double t = -1;
+			
+			if(c <= 0) { //Already touching at the start of the step
+				t = 0;
+			}
+			else if(a > 0) {
+				double discriminant = b * b - 4 * a * c;
+				if(discriminant >= 0) {
+					t = (-b - Math.sqrt(discriminant)) / (2 * a); //Smaller root is where the point enters the body
+				}
+			}
+
+			if(t >= 0 && t <= 1 && (impact < 0 || t < impact)) {
+				impact = t;
+			}
+		}
+
+		if(impact >= 0) {
+			narrowPhaseHits++;
+		}
+		return impact;
+	}
+
+	public void resetCounters() {
+		broadPhaseChecks = 0;
+		narrowPhaseChecks = 0;
+		narrowPhaseHits = 0;
+	}
+
+	private void updateRotation(double angleInDegrees) { //The angle only changes while the player is rotating
+		if(angleInDegrees != cachedAngleInDegrees) {
+			double angle = Math.toRadians(angleInDegrees);
+			cachedCos = Math.cos(angle);
+			cachedSin = Math.sin(angle);
+			cachedAngleInDegrees = angleInDegrees;
+		}
+	}
+
+	//Getters
+	public double[] getLocalPoints() { //Copy, {x0, y0, x1, y1, ...} with x along the rocket
+		return localPoints.clone();
+	}
+
+	public double getBoundingRadius() {
+		return boundingRadius;
+	}
+
+	public long getBroadPhaseChecks() {
+		return broadPhaseChecks;
+	}
+
+	public long getNarrowPhaseChecks() {
+		return narrowPhaseChecks;
+	}
+
+	public long getNarrowPhaseHits() {
+		return narrowPhaseHits;
+	}
+
+}
@@ -0,0 +1,115 @@
+//***************************************************************
+// Class: RocketDesign
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Immutable saved rocket, a name and the parts it is built from
+//
+// Attributes:  -name: String
+//				-commandModule: String
+//				-fuselage: String
+//				-engine: String
+//
+// Methods: +toLine(): String,
+//			+parse(String): RocketDesign,
+//			+isLegacyLine(String): boolean,
+//			-partId(String, List<PartDefinition>): String,
+//			+equals(Object): boolean,
+//			+hashCode(): int
+//
+//**************************************************************
+
+import java.util.List;
+
+public class RocketDesign {
+	
+	private final String name;
+	private final String commandModule; //Part ids from the PartCatalog
+	private final String fuselage;
+	private final String engine;
+	
+	public RocketDesign(String newName, String newCommandModule, String newFuselage, String newEngine) {
+		name = newName;
+		commandModule = newCommandModule.intern();
+		fuselage = newFuselage.intern();
+		engine = newEngine.intern();
+	}
+
+	public String toLine() { //name,command module id,fuselage id,engine id
+		return name + "," + commandModule + "," + fuselage + "," + engine;
+	}
+
+	//The parts are the last three columns, so a name may contain commas. Older files saved the parts as indexes in the
+	//catalog's lists, those are turned into ids. Throws NumberFormatException for a malformed line.
+	public static RocketDesign parse(String line) {
+		int engineStart = line.lastIndexOf(',');
+		int fuselageStart = line.lastIndexOf(',', engineStart - 1);
+		int commandModuleStart = line.lastIndexOf(',', fuselageStart - 1);
+		if(commandModuleStart < 0) {
+			throw new NumberFormatException("'" + line + "' is not a saved rocket.");
+		}
+		PartCatalog catalog = PartCatalog.getDefault();
+		return new RocketDesign(line.substring(0, commandModuleStart),
+				partId(line.substring(commandModuleStart + 1, fuselageStart), catalog.getCommandModules()),
+				partId(line.substring(fuselageStart + 1, engineStart), catalog.getFuselages()),
+				partId(line.substring(engineStart + 1), catalog.getEngines()));
+	}
+
+	public static boolean isLegacyLine(String line) { //True if the parts are saved as indexes instead of ids
+		return PartCatalog.isIndex(line.substring(line.lastIndexOf(',') + 1));
+	}
+
+	private static String partId(String column, List<PartDefinition> parts) {
+		if(column.isEmpty()) {
+			throw new NumberFormatException("A saved rocket is missing a part.");
+		}
+		if(!PartCatalog.isIndex(column)) {
+			return column;
+		}
+		int index = Integer.parseInt(column);
+		if(index >= parts.size()) {
+			throw new NumberFormatException("There is no part " + index + " in the catalog.");
+		}
+		return parts.get(index).getId();
+	}
+
+	@Override
+	public boolean equals(Object other) {
+		if(this == other) {
+			return true;
+		}
+		if(!(other instanceof RocketDesign)) {
+			return false;
+		}
+		RocketDesign design = (RocketDesign)other;
+		return name.equals(design.name) && commandModule == design.commandModule && fuselage == design.fuselage && engine == design.engine; //Interned
+	}
+
+	@Override
+	public int hashCode() {
+		return ((name.hashCode() * 31 + commandModule.hashCode()) * 31 + fuselage.hashCode()) * 31 + engine.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return name;
+	}
+
+	//Getters
+	public String getName() {
+		return name;
+	}
+
+	public String getCommandModule() {
+		return commandModule;
+	}
+
+	public String getFuselage() {
+		return fuselage;
+	}
+
+	public String getEngine() {
+		return engine;
+	}
+
+}
@@ -0,0 +1,52 @@
+//***************************************************************
+// Class: RocketDesignCursor
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Pages through the saved rockets whose name starts with a prefix, in name order
+//
+// Attributes:  -store: RocketDesignStore
+//				-prefix: String
+//				-last: RocketDesign
+//				-exhausted: boolean
+//
+// Methods: +next(int): List<RocketDesign>
+//
+//**************************************************************
+
+//Remembers the last design it returned instead of a position, so saves and deletes between pages don't shift the pages.
+//Can be used from any thread, but only from one at a time.
+
+import java.util.List;
+
+public class RocketDesignCursor {
+	
+	private final RocketDesignStore store;
+	private final String prefix;
+	private RocketDesign last = null;
+	private boolean exhausted = false;
+	
+	public RocketDesignCursor(RocketDesignStore newStore, String newPrefix) {
+		store = newStore;
+		prefix = newPrefix;
+	}
+
+	public List<RocketDesign> next(int count) { //Fewer than 'count' designs once the end is reached
+		List<RocketDesign> page = store.page(prefix, last, count);
+		if(!page.isEmpty()) {
+			last = page.get(page.size() - 1);
+		}
+		exhausted = page.size() < count;
+		return page;
+	}
+
+	//Getters
+	public String getPrefix() {
+		return prefix;
+	}
+
+	public boolean isExhausted() {
+		return exhausted;
+	}
+
+}
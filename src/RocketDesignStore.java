@@ -0,0 +1,467 @@
+//***************************************************************
+// Class: RocketDesignStore
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Saved rockets, indexed in memory and kept crash safe on disk with a snapshot and a write-ahead journal
+//
+// Attributes:  -file: File
+//				-journalFile: File
+//				-designs: Set<RocketDesign>
+//				-designsByName: NavigableMap<String, List<RocketDesign>>
+//				-pending: BlockingQueue<JournalEntry>
+//				-journalThread: Thread
+//				-journalLines: int
+//				-submitted: long
+//				-processed: long
+//				-failed: long
+//				-failure: IOException
+//				-synced: long
+//				-legacyLines: boolean
+//
+// Methods: +load(): void,
+//			+save(RocketDesign): boolean,
+//			+delete(RocketDesign): boolean,
+//			+contains(RocketDesign): boolean,
+//			+findByName(String): List<RocketDesign>,
+//			+getDesigns(): List<RocketDesign>,
+//			+page(String, RocketDesign, int): List<RocketDesign>,
+//			+compact(): void,
+//			+sync(): void,
+//			+close(): void,
+//			-add(RocketDesign): boolean,
+//			-remove(RocketDesign): boolean,
+//			-checkLoaded(): void,
+//			-nameKey(String): String,
+//			-replay(File, boolean): int,
+//			-apply(String): void,
+//			-submit(JournalEntry): void,
+//			-writeJournal(): void,
+//			-write(FileChannel, StringBuilder): void,
+//			-writeSnapshot(List<RocketDesign>): void
+//
+//**************************************************************
+
+//The snapshot (SavedRockets.txt) holds the designs as of the last checkpoint, one line each. Every save and delete after
+//that is first appended to the journal (SavedRockets.txt.journal): a save as the design's line, a delete as the same line
+//followed by ",-". Loading reads the snapshot and then replays the journal, ignoring a last line that was cut off mid write.
+//
+//Only the journal thread touches the files. It writes everything that is waiting in one go and forces it to disk once
+//(group commit), so a burst of saves costs one fsync. Once the journal is longer than the snapshot a checkpoint writes a
+//new snapshot to a temporary file, forces it, renames it over the old one and empties the journal. A crash at any point
+//leaves either the old snapshot and the full journal or the new snapshot, and replaying the journal again changes nothing.
+//If a batch can't be written its entries are marked as failed, and the next sync() throws and queues a checkpoint that
+//writes every design again.
+//
+//Changes to the designs come from one thread, but the index can be read from any thread (the rocket browser pages through
+//it in the background), so it is only touched while holding the 'designs' lock.
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+public class RocketDesignStore {
+	
+	private static final String TOMBSTONE = ",-";
+	private static final int MIN_CHECKPOINT_LINES = 64; //Small journals aren't worth a checkpoint
+	//Order of the designs that share a lower case name, unique for every design so a page can resume after one that was deleted
+	private static final Comparator<RocketDesign> NAME_ORDER = Comparator.comparing(RocketDesign::getName)
+			.thenComparing(RocketDesign::getCommandModule).thenComparing(RocketDesign::getFuselage).thenComparing(RocketDesign::getEngine);
+	
+	//A journal line, a checkpoint (the designs as of this point) or the end of the journal thread
+	private static class JournalEntry {
+		private final String line;
+		private final List<RocketDesign> snapshot;
+		private final boolean last;
+		private long sequence;
+		
+		private JournalEntry(String newLine, List<RocketDesign> newSnapshot, boolean newLast) {
+			line = newLine;
+			snapshot = newSnapshot;
+			last = newLast;
+		}
+	}
+
+	private final File file;
+	private final File journalFile;
+	private final Set<RocketDesign> designs = new LinkedHashSet<>(); //In the order they were saved
+	private final NavigableMap<String, List<RocketDesign>> designsByName = new TreeMap<>(); //Sorted by lower case name, then NAME_ORDER, for prefix searches
+	
+	private final BlockingQueue<JournalEntry> pending = new LinkedBlockingQueue<>();
+	private Thread journalThread;
+	private int journalLines = 0; //Lines in the journal since the last checkpoint, including ones still pending
+	private long submitted = 0; //Sequence number of the newest entry handed to the journal thread, guarded by 'this'
+	private long processed = 0; //Sequence number of the newest entry the journal thread is done with, guarded by 'this'
+	private long failed = 0; //Sequence number of the newest entry that couldn't be written, guarded by 'this'
+	private IOException failure; //Why it couldn't, guarded by 'this'
+	private long synced = 0; //Sequence number sync() last waited for, failures up to it have been reported
+	private boolean legacyLines = false; //A loaded line saved its parts as indexes, the next snapshot rewrites it with ids
+	
+	public RocketDesignStore(File newFile) {
+		file = newFile;
+		journalFile = new File(file.getPath() + ".journal");
+	}
+
+	//Reads the snapshot, replays the journal and starts the journal thread. Calls from then on must come from one thread.
+	public void load() {
+		close();
+		synchronized(designs) {
+			designs.clear();
+			designsByName.clear();
+		}
+		legacyLines = false;
+		synchronized(this) {
+			failed = processed;
+			synced = submitted;
+		}
+		if(!file.exists() && !journalFile.exists()) {
+			System.out.println("The file '" + file.getName() + "' cannot be found in the current directory.\n"
+							+  "Creating new file now...");
+		}
+		int snapshotLines = replay(file, true);
+		int replayed = replay(journalFile, false);
+		int loaded = getSize();
+		
+		journalThread = new Thread(this::writeJournal, "Design Journal");
+		journalThread.setDaemon(true);
+		journalThread.start();
+		if(replayed > 0 || snapshotLines != loaded || legacyLines || !file.exists()) {
+			compact(); //Starts from a clean snapshot and an empty journal
+		}
+	}
+
+	//Saves and deletes throw IllegalStateException before load() or after close(), since they could never reach the disk
+	public boolean save(RocketDesign design) { //False if the exact same design is already saved
+		checkLoaded();
+		if(!add(design)) {
+			return false;
+		}
+		submit(new JournalEntry(design.toLine(), null, false));
+		return true;
+	}
+
+	public boolean delete(RocketDesign design) { //False if it wasn't saved
+		checkLoaded();
+		if(!remove(design)) {
+			return false;
+		}
+		submit(new JournalEntry(design.toLine() + TOMBSTONE, null, false));
+		return true;
+	}
+
+	public boolean contains(RocketDesign design) {
+		synchronized(designs) {
+			return designs.contains(design);
+		}
+	}
+
+	public List<RocketDesign> findByName(String name) {
+		List<RocketDesign> named = new ArrayList<>();
+		synchronized(designs) {
+			for(RocketDesign design : designsByName.getOrDefault(nameKey(name), Collections.emptyList())) {
+				if(design.getName().equals(name)) {
+					named.add(design);
+				}
+			}
+		}
+		return named;
+	}
+
+	public List<RocketDesign> getDesigns() { //A copy, in the order they were saved
+		synchronized(designs) {
+			return new ArrayList<>(designs);
+		}
+	}
+
+	//Up to 'count' designs whose name starts with 'prefix' (ignoring case), sorted by name and starting after 'after' (null for
+	//the first page). Costs a lookup plus the size of the page, however many designs are saved.
+	public List<RocketDesign> page(String prefix, RocketDesign after, int count) {
+		String prefixKey = nameKey(prefix);
+		List<RocketDesign> page = new ArrayList<>(count);
+		synchronized(designs) {
+			String fromKey = after == null ? prefixKey : nameKey(after.getName());
+			for(Map.Entry<String, List<RocketDesign>> entry : designsByName.tailMap(fromKey, true).entrySet()) {
+				if(page.size() == count || !entry.getKey().startsWith(prefixKey)) {
+					break;
+				}
+				List<RocketDesign> named = entry.getValue();
+				int start = 0;
+				if(after != null && entry.getKey().equals(fromKey)) {
+					start = Collections.binarySearch(named, after, NAME_ORDER);
+					start = start >= 0 ? start + 1 : -start - 1; //Where it would be if 'after' was deleted
+				}
+				for(int i = start; i < named.size() && page.size() < count; i++) {
+					page.add(named.get(i));
+				}
+			}
+		}
+		return page;
+	}
+
+	public void compact() { //Queues a checkpoint of the current designs
+		checkLoaded();
+		submit(new JournalEntry(null, getDesigns(), false));
+		journalLines = 0;
+	}
+
+	//Waits until everything saved or deleted so far is on disk. Throws UncheckedIOException if anything since the last sync
+	//couldn't be written, the designs are still saved in memory.
+	public synchronized void sync() {
+		long target = submitted;
+		while(processed < target && journalThread != null && journalThread.isAlive()) {
+			try {
+				wait();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		long since = synced;
+		synced = target;
+		if(failed > since) {
+			compact();
+			throw new UncheckedIOException("Unable to write to '" + journalFile.getName() + "'.", failure);
+		}
+	}
+
+	public void close() { //Writes out everything pending and stops the journal thread
+		if(journalThread != null) {
+			submit(new JournalEntry(null, null, true));
+			try {
+				journalThread.join();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			journalThread = null;
+		}
+	}
+
+	private boolean add(RocketDesign design) {
+		synchronized(designs) {
+			if(!designs.add(design)) {
+				return false;
+			}
+			List<RocketDesign> named = designsByName.computeIfAbsent(nameKey(design.getName()), key -> new ArrayList<>(1));
+			named.add(-Collections.binarySearch(named, design, NAME_ORDER) - 1, design); //Never found, it wasn't in 'designs'
+			return true;
+		}
+	}
+
+	private boolean remove(RocketDesign design) {
+		synchronized(designs) {
+			if(!designs.remove(design)) {
+				return false;
+			}
+			String key = nameKey(design.getName());
+			List<RocketDesign> named = designsByName.get(key);
+			named.remove(design);
+			if(named.isEmpty()) {
+				designsByName.remove(key);
+			}
+			return true;
+		}
+	}
+
+	private void checkLoaded() {
+		if(journalThread == null) {
+			throw new IllegalStateException("The saved rockets aren't loaded, or were closed.");
+		}
+	}
+
+	private static String nameKey(String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+
+	//Applies every line of 'source' and returns how many there were. The snapshot is replaced in one step so its last line is
+	//always whole, but in the journal anything after the last newline was cut off by a crash.
+	private int replay(File source, boolean lastLineComplete) {
+		if(!source.exists()) {
+			return 0;
+		}
+		byte[] bytes;
+		try {
+			bytes = Files.readAllBytes(source.toPath());
+		} catch(IOException e) {
+			System.out.println("Unable to read '" + source.getName() + "'.");
+			e.printStackTrace();
+			return 0;
+		}
+
+		int lines = 0;
+		int start = 0;
+		for(int end = 0; end < bytes.length; end++) {
+			if(bytes[end] == '\n') {
+				apply(new String(bytes, start, end - start, StandardCharsets.UTF_8));
+				lines++;
+				start = end + 1;
+			}
+		}
+		if(lastLineComplete && start < bytes.length) {
+			apply(new String(bytes, start, bytes.length - start, StandardCharsets.UTF_8));
+			lines++;
+		}
+		return lines;
+	}
+
+	private void apply(String line) {
+		if(line.endsWith("\r")) {
+			line = line.substring(0, line.length() - 1);
+		}
+		if(line.isEmpty()) {
+			return;
+		}
+		try {
+			legacyLines |= RocketDesign.isLegacyLine(line.endsWith(TOMBSTONE) ? line.substring(0, line.length() - TOMBSTONE.length()) : line);
+			if(line.endsWith(TOMBSTONE)) {
+				remove(RocketDesign.parse(line.substring(0, line.length() - TOMBSTONE.length())));
+			}
+			else {
+				add(RocketDesign.parse(line));
+			}
+		} catch(NumberFormatException e) {
+			System.out.println("Skipping unreadable saved rocket '" + line + "'.");
+		}
+	}
+
+	private void submit(JournalEntry entry) {
+		synchronized(this) {
+			entry.sequence = ++submitted;
+		}
+		pending.add(entry);
+		if(entry.line != null && ++journalLines >= MIN_CHECKPOINT_LINES && journalLines > getSize()) {
+			compact();
+		}
+	}
+
+	private void writeJournal() { //Journal thread
+		FileChannel journal = null;
+		boolean last = false;
+		List<JournalEntry> batch = new ArrayList<>();
+		StringBuilder lines = new StringBuilder();
+		while(!last) {
+			try {
+				batch.add(pending.take());
+				pending.drainTo(batch); //Everything that piled up while the last batch was being forced
+			} catch(InterruptedException e) {
+				last = true;
+			}
+			for(JournalEntry entry : batch) { //Before writing, so the thread still ends if the batch fails
+				last |= entry.last;
+			}
+
+			IOException batchFailure = null;
+			try {
+				if(journal == null) {
+					journal = FileChannel.open(journalFile.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+				}
+				for(JournalEntry entry : batch) {
+					if(entry.line != null) {
+						lines.append(entry.line).append('\n');
+					}
+					else if(entry.snapshot != null) { //Earlier lines still go into the journal first, in case the checkpoint fails
+						write(journal, lines);
+						writeSnapshot(entry.snapshot);
+						journal.truncate(0);
+						journal.force(true);
+					}
+				}
+				write(journal, lines);
+			} catch(IOException e) {
+				System.out.println("Unable to write to '" + journalFile.getName() + "'.");
+				e.printStackTrace();
+				lines.setLength(0);
+				batchFailure = e;
+			}
+
+			synchronized(this) {
+				if(!batch.isEmpty()) {
+					processed = batch.get(batch.size() - 1).sequence;
+					if(batchFailure != null) {
+						failed = processed;
+						failure = batchFailure;
+					}
+				}
+				notifyAll();
+			}
+			batch.clear();
+		}
+
+		try {
+			if(journal != null) {
+				journal.close();
+			}
+		} catch(IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private static void write(FileChannel journal, StringBuilder lines) throws IOException { //One write and one fsync for all of 'lines'
+		if(lines.length() == 0) {
+			return;
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+		lines.setLength(0);
+		while(buffer.hasRemaining()) {
+			journal.write(buffer);
+		}
+		journal.force(false);
+	}
+
+	private void writeSnapshot(List<RocketDesign> snapshot) throws IOException {
+		File temporary = new File(file.getPath() + ".tmp");
+		StringBuilder text = new StringBuilder();
+		for(RocketDesign design : snapshot) {
+			text.append(design.toLine()).append('\n');
+		}
+		try(FileChannel channel = FileChannel.open(temporary.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.wrap(text.toString().getBytes(StandardCharsets.UTF_8));
+			while(buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+			channel.force(true);
+		}
+		Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		
+		//Makes the rename itself durable. Not every system can open a directory, there the rename is as durable as it gets.
+		File directory = file.getAbsoluteFile().getParentFile();
+		try(FileChannel channel = FileChannel.open(directory.toPath(), StandardOpenOption.READ)) {
+			channel.force(true);
+		} catch(IOException e) {
+			//Nothing else to do
+		}
+	}
+
+	//Getters
+	public File getFile() {
+		return file;
+	}
+
+	public File getJournalFile() {
+		return journalFile;
+	}
+
+	public int getSize() {
+		synchronized(designs) {
+			return designs.size();
+		}
+	}
+
+}
@@ -0,0 +1,299 @@
+//***************************************************************
+// Class: RocketFleet
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Structure-of-arrays state for stepping many rockets around one body at once
+//
+// Attributes:  -size: int
+//				-gravitationalParameter: double
+//				-bodyRadius: double
+//				-xPositions, yPositions: double[]
+//				-xVelocities, yVelocities: double[]
+//				-rotationAngles, queuedRotationAngles: double[]
+//				-fuelLevels, thrustPercents: double[]
+//				-masses, maxThrusts, depletionRates: double[]
+//				-colliderPoints, boundingRadii: double[]
+//				-landed: boolean[]
+//				-vectorized: boolean
+//
+// Methods: +add(Rocket): int,
+//			+load(int, Rocket): void,
+//			+store(int, Rocket): void,
+//			+step(double): void,
+//			+step(double, int, int): void,
+//			+hasHullCollided(int): boolean,
+//			+calculateDistanceToSurfaceOfBody(int): double,
+//			+calculateSpeed(int): double,
+//			+isVectorKernelAvailable(): boolean,
+//			-loadVectorKernel(): StepKernel,
+//			-toRocketDegrees(double): double
+//
+//**************************************************************
+
+//Steps run through RocketFleetVectorKernel (src-vector/) when the JDK Vector API can be used, which needs the JVM to be started
+//with --add-modules jdk.incubator.vector (the Gradle build does this for the tests and benchmarks). Without it, or when the
+//kernel wasn't compiled in, every rocket takes the scalar loop below. The vector kernel agrees with the scalar loop to within
+//a few ulps per step, not bit for bit, since its sin, cos and atan2 aren't the ones in Math.
+
+public class RocketFleet {
+	
+	//Steps the rockets from 'fromIndex' on and returns the index at which the scalar loop has to take over
+	public interface StepKernel {
+		int step(RocketFleet fleet, double timeStep, int fromIndex, int toIndex);
+	}
+
+	private static final StepKernel VECTOR_KERNEL = loadVectorKernel();
+	
+	private final int capacity;
+	private int size = 0;
+	
+	private final double gravitationalParameter; //G * M of the body, every rocket in a fleet orbits the same body
+	private final double bodyRadius;
+	
+	//State (angles are in radians, unlike Rocket)
+	private final double[] xPositions;
+	private final double[] yPositions;
+	private final double[] xVelocities;
+	private final double[] yVelocities;
+	private final double[] rotationAngles;
+	private final double[] queuedRotationAngles;
+	private final double[] fuelLevels;
+	private final double[] thrustPercents;
+	private final boolean[] landed;
+	
+	//Constants taken from the parts when a rocket is loaded
+	private final double[] masses;
+	private final double[] maxThrusts;
+	private final double[] depletionRates;
+	private final double[] colliderPoints; //RocketCollider.POINT_COUNT local points per rocket, {x0, y0, x1, y1, ...}
+	private final double[] boundingRadii;
+	
+	private boolean vectorized = VECTOR_KERNEL != null;
+	
+	public RocketFleet(int newCapacity, Body body) {
+		capacity = newCapacity;
+		gravitationalParameter = body.gravitationalConstant * body.getMass();
+		bodyRadius = body.getRadius();
+		
+		xPositions = new double[capacity];
+		yPositions = new double[capacity];
+		xVelocities = new double[capacity];
+		yVelocities = new double[capacity];
+		rotationAngles = new double[capacity];
+		queuedRotationAngles = new double[capacity];
+		fuelLevels = new double[capacity];
+		thrustPercents = new double[capacity];
+		landed = new boolean[capacity];
+		
+		masses = new double[capacity];
+		maxThrusts = new double[capacity];
+		depletionRates = new double[capacity];
+		colliderPoints = new double[capacity * RocketCollider.POINT_COUNT * 2];
+		boundingRadii = new double[capacity];
+	}
+
+	public int add(Rocket rocket) { //Returns the index of the rocket in the fleet
+		if(size == capacity) {
+			throw new IllegalStateException("The fleet is full (" + capacity + " rockets).");
+		}
+		load(size, rocket);
+		return size++;
+	}
+
+	public void load(int index, Rocket rocket) {
+		xPositions[index] = rocket.getXPosition();
+		yPositions[index] = rocket.getYPosition();
+		xVelocities[index] = rocket.getXVelocity();
+		yVelocities[index] = rocket.getYVelocity();
+		rotationAngles[index] = Math.toRadians(rocket.getRotationAngleInDegrees());
+		queuedRotationAngles[index] = Math.toRadians(rocket.getQueuedRotationAngleInDegrees());
+		fuelLevels[index] = rocket.getFuselage().getFuelLevel();
+		thrustPercents[index] = rocket.getEngine().getThrustPercent();
+		landed[index] = false;
+		
+		masses[index] = rocket.getCommandModule().getMass() + rocket.getFuselage().getMass() + rocket.getEngine().getMass();
+		maxThrusts[index] = rocket.getEngine().getMaxThrust();
+		depletionRates[index] = rocket.getFuselage().getDepletionRate();
+		System.arraycopy(rocket.getCollider().getLocalPoints(), 0, colliderPoints, index * RocketCollider.POINT_COUNT * 2, RocketCollider.POINT_COUNT * 2);
+		boundingRadii[index] = rocket.getCollider().getBoundingRadius();
+	}
+
+	public void store(int index, Rocket rocket) { //Fuel and throttle stay in the fleet, the parts do not expose setters for them
+		rocket.setXPosition(xPositions[index]);
+		rocket.setYPosition(yPositions[index]);
+		rocket.setXVelocity(xVelocities[index]);
+		rocket.setYVelocity(yVelocities[index]);
+		rocket.setRotationAngleInDegrees(toRocketDegrees(rotationAngles[index]));
+		rocket.setQueuedRotationAngleInDegrees(toRocketDegrees(queuedRotationAngles[index]));
+	}
+
+	public void step(double timeStep) {
+		step(timeStep, 0, size);
+	}
+
+	//Same math as Rocket.updatePosition() followed by Rocket.updateRotation() and Rocket.hasCollidedWithSurface(), fuel is
+	//drained once per step. Only reads and writes primitive arrays so ranges can be handed to different threads.
+	public void step(double timeStep, int fromIndex, int toIndex) {
+		final double halfPi = Math.PI / 2;
+		int start = vectorized ? VECTOR_KERNEL.step(this, timeStep, fromIndex, toIndex) : fromIndex;
+		
+		for(int i = start; i < toIndex; i++) {
+			if(landed[i]) {
+				continue;
+			}
+
+			double x = xPositions[i];
+			double y = yPositions[i];
+			double distanceSquared = x * x + y * y;
+			double inverseDistance = 1 / Math.sqrt(distanceSquared);
+			double gravity = gravitationalParameter / distanceSquared;
+			
+			double fuel = fuelLevels[i];
+			double thrustPercent = thrustPercents[i];
+			double thrust = fuel > 0 ? maxThrusts[i] * thrustPercent / masses[i] : 0;
+			double rotation = rotationAngles[i];
+			
+			double xVelocity = xVelocities[i] - (gravity * x * inverseDistance - thrust * Math.cos(rotation)) * timeStep;
+			double yVelocity = yVelocities[i] - (gravity * y * inverseDistance - thrust * Math.sin(rotation)) * timeStep;
+			x += xVelocity * timeStep;
+			y += yVelocity * timeStep;
+			
+			xPositions[i] = x;
+			yPositions[i] = y;
+			xVelocities[i] = xVelocity;
+			yVelocities[i] = yVelocity;
+			fuelLevels[i] = Math.max(0, fuel - depletionRates[i] * timeStep * thrustPercent);
+			rotationAngles[i] = queuedRotationAngles[i] + Math.atan2(y, x) - halfPi;
+			landed[i] = hasHullCollided(i);
+		}
+	}
+
+	//Same broad and narrow phase as RocketCollider.hasCollided(), with the queued rotation like Rocket.hasCollidedWithSurface()
+	public boolean hasHullCollided(int index) {
+		double x = xPositions[index];
+		double y = yPositions[index];
+		if(Math.sqrt(x * x + y * y) - bodyRadius - boundingRadii[index] > 0) {
+			return false;
+		}
+
+		double radiusSquared = bodyRadius * bodyRadius;
+		double cos = Math.cos(queuedRotationAngles[index]);
+		double sin = Math.sin(queuedRotationAngles[index]);
+		int offset = index * RocketCollider.POINT_COUNT * 2;
+		for(int i = offset; i < offset + RocketCollider.POINT_COUNT * 2; i += 2) {
+			double pointX = x + colliderPoints[i] * cos;
+			double pointY = y + colliderPoints[i] * sin + colliderPoints[i + 1] * cos;
+			if(pointX * pointX + pointY * pointY <= radiusSquared) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public static boolean isVectorKernelAvailable() {
+		return VECTOR_KERNEL != null;
+	}
+
+	private static StepKernel loadVectorKernel() { //Null unless the Vector API module is loaded and the kernel was compiled in
+		if(ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) {
+			return null;
+		}
+		try {
+			return (StepKernel)Class.forName("RocketFleetVectorKernel").getDeclaredConstructor().newInstance();
+		} catch(ReflectiveOperationException | LinkageError e) {
+			return null;
+		}
+	}
+
+	private double toRocketDegrees(double angle) { //Rocket keeps its angles between 0 (exclusive) and 360 (inclusive)
+		double degrees = Math.toDegrees(angle) % 360;
+		return degrees <= 0 ? degrees + 360 : degrees;
+	}
+
+	public double calculateDistanceToSurfaceOfBody(int index) {
+		return Math.sqrt(xPositions[index] * xPositions[index] + yPositions[index] * yPositions[index]) - bodyRadius;
+	}
+
+	public double calculateSpeed(int index) {
+		return Math.sqrt(xVelocities[index] * xVelocities[index] + yVelocities[index] * yVelocities[index]);
+	}
+
+	//Getters/Setters
+	public int getSize() {
+		return size;
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	public double[] getXPositions() {
+		return xPositions;
+	}
+
+	public double[] getYPositions() {
+		return yPositions;
+	}
+
+	public double[] getXVelocities() {
+		return xVelocities;
+	}
+
+	public double[] getYVelocities() {
+		return yVelocities;
+	}
+
+	public double[] getRotationAngles() {
+		return rotationAngles;
+	}
+
+	public double[] getQueuedRotationAngles() {
+		return queuedRotationAngles;
+	}
+
+	public double[] getFuelLevels() {
+		return fuelLevels;
+	}
+
+	public double[] getThrustPercents() {
+		return thrustPercents;
+	}
+
+	public boolean[] getLanded() {
+		return landed;
+	}
+
+	public double[] getMasses() {
+		return masses;
+	}
+
+	public double[] getMaxThrusts() {
+		return maxThrusts;
+	}
+
+	public double[] getDepletionRates() {
+		return depletionRates;
+	}
+
+	public double[] getBoundingRadii() {
+		return boundingRadii;
+	}
+
+	public double getGravitationalParameter() {
+		return gravitationalParameter;
+	}
+
+	public double getBodyRadius() {
+		return bodyRadius;
+	}
+
+	public boolean isVectorized() {
+		return vectorized;
+	}
+
+	public void setVectorized(boolean vectorized) { //Ignored while the vector kernel isn't available
+		this.vectorized = vectorized && VECTOR_KERNEL != null;
+	}
+
+}
@@ -0,0 +1,64 @@
+//***************************************************************
+// Class: RungeKutta4Integrator
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Classic fourth order Runge-Kutta step
+//
+// Attributes:  -forceEvaluations: long
+//				-thrust: double[]
+//				-k1, k2, k3, k4: double[]
+//
+// Methods: +integrate(Rocket, double): void,
+//			+getForceEvaluations(): long
+//
+//**************************************************************
+
+public class RungeKutta4Integrator implements Integrator {
+	
+	private long forceEvaluations = 0;
+	
+	//Reused every step, one integrator per rocket
+	private final double[] thrust = new double[2];
+	private final double[] k1 = new double[2];
+	private final double[] k2 = new double[2];
+	private final double[] k3 = new double[2];
+	private final double[] k4 = new double[2];
+	
+	@Override
+	public void integrate(Rocket rocket, double timeStep) {
+		double x = rocket.getXPosition();
+		double y = rocket.getYPosition();
+		double xVelocity = rocket.getXVelocity();
+		double yVelocity = rocket.getYVelocity();
+		double halfStep = timeStep / 2;
+		
+		rocket.calculateThrustAcceleration(timeStep, thrust);
+		
+		rocket.calculateAcceleration(x, y, thrust, k1);
+		
+		double xVelocity2 = xVelocity + k1[0] * halfStep;
+		double yVelocity2 = yVelocity + k1[1] * halfStep;
+		rocket.calculateAcceleration(x + xVelocity * halfStep, y + yVelocity * halfStep, thrust, k2);
+		
+		double xVelocity3 = xVelocity + k2[0] * halfStep;
+		double yVelocity3 = yVelocity + k2[1] * halfStep;
+		rocket.calculateAcceleration(x + xVelocity2 * halfStep, y + yVelocity2 * halfStep, thrust, k3);
+		
+		double xVelocity4 = xVelocity + k3[0] * timeStep;
+		double yVelocity4 = yVelocity + k3[1] * timeStep;
+		rocket.calculateAcceleration(x + xVelocity3 * timeStep, y + yVelocity3 * timeStep, thrust, k4);
+		forceEvaluations += 4;
+		
+		rocket.setXPosition(x + (xVelocity + 2 * xVelocity2 + 2 * xVelocity3 + xVelocity4) * timeStep / 6);
+		rocket.setYPosition(y + (yVelocity + 2 * yVelocity2 + 2 * yVelocity3 + yVelocity4) * timeStep / 6);
+		rocket.setXVelocity(xVelocity + (k1[0] + 2 * k2[0] + 2 * k3[0] + k4[0]) * timeStep / 6);
+		rocket.setYVelocity(yVelocity + (k1[1] + 2 * k2[1] + 2 * k3[1] + k4[1]) * timeStep / 6);
+	}
+	
+	@Override
+	public long getForceEvaluations() {
+		return forceEvaluations;
+	}
+	
+}
@@ -0,0 +1,33 @@
+//***************************************************************
+// Class: SemiImplicitEulerIntegrator
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Original fixed step integrator (velocity first, then position)
+//
+// Attributes:  -forceEvaluations: long
+//
+// Methods: +integrate(Rocket, double): void,
+//			+getForceEvaluations(): long
+//
+//**************************************************************
+
+public class SemiImplicitEulerIntegrator implements Integrator {
+	
+	private long forceEvaluations = 0;
+	
+	@Override
+	public void integrate(Rocket rocket, double timeStep) {
+		rocket.calculateVelocity(timeStep);
+		forceEvaluations++;
+		
+		rocket.setXPosition(rocket.getXPosition() + rocket.getXVelocity() * timeStep);
+		rocket.setYPosition(rocket.getYPosition() + rocket.getYVelocity() * timeStep);
+	}
+	
+	@Override
+	public long getForceEvaluations() {
+		return forceEvaluations;
+	}
+	
+}
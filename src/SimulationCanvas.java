@@ -0,0 +1,214 @@
+//***************************************************************
+// Class: SimulationCanvas
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Immediate mode renderer for the simulation, an alternative to SimulationPane's scene graph nodes
+//
+// Attributes:  -world: Canvas
+//				-hud: Canvas
+//				-bodyRadius: double
+//				-bodyDisplayDownscale: double
+//				-bodyColor: Color
+//				-engineX, engineY: double[]
+//				-commandModuleX, commandModuleY: double[]
+//				-hudValues: int[]
+//
+// Methods: +initialize(Rocket, double, double): void,
+//			+draw(SimulationSnapshot, TimeWarp, boolean): void,
+//			-drawBody(GraphicsContext, double): void,
+//			-drawRocket(GraphicsContext, double): void,
+//			-drawHud(SimulationSnapshot, TimeWarp): void,
+//			-drawHudValue(GraphicsContext, int, int, String): void,
+//			#layoutChildren(): void
+//
+//**************************************************************
+
+//The world layer is cleared and redrawn every frame, but only the part of the body that can be on screen is drawn.
+//The HUD is a separate layer on top that is only touched when one of the whole numbers it shows changes.
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+public class SimulationCanvas extends Pane {
+	
+	private static final int HORIZON_POINTS = 64; //Points along the visible arc of the body
+	private static final int HUD_FIELDS = 4;
+	private static final int HUD_ROW_HEIGHT = 24;
+	private static final int HUD_SPEED = 0;
+	private static final int HUD_ALTITUDE = 1;
+	private static final int HUD_THRUST = 2;
+	private static final int HUD_TIME_WARP = 3;
+	
+	private final Canvas world = new Canvas();
+	private final Canvas hud = new Canvas();
+	
+	private double bodyRadius; //In pixels
+	private double bodyDisplayDownscale; //Meters per pixel
+	private Color bodyColor;
+	
+	//Rocket geometry in pixels around the point it rotates about, built once per run
+	private double[] engineX;
+	private double[] engineY;
+	private double fuselageX;
+	private double fuselageY;
+	private double fuselageLength;
+	private double fuselageWidth;
+	private double[] commandModuleX;
+	private double[] commandModuleY;
+	private double rocketCenterX; //Offset of the rotation point from the center of the canvas
+	private double rocketCenterY;
+	private Color engineColor;
+	private Color fuselageColor;
+	private Color commandModuleColor;
+	
+	private final double[] horizonX = new double[HORIZON_POINTS + 2];
+	private final double[] horizonY = new double[HORIZON_POINTS + 2];
+	private final int[] hudValues = new int[HUD_FIELDS]; //What each HUD field shows right now
+	private boolean hudValid = false;
+	
+	public SimulationCanvas() {
+		getChildren().add(world);
+		getChildren().add(hud);
+		
+		GraphicsContext gc = hud.getGraphicsContext2D();
+		gc.setFont(Font.font("Roboto", 18));
+		gc.setFill(Color.WHITE);
+		gc.setTextBaseline(VPos.TOP);
+	}
+
+	public void initialize(Rocket player, double rocketDisplayScale, double bodyDisplayDownscale) {
+		this.bodyDisplayDownscale = bodyDisplayDownscale;
+		bodyRadius = player.getCurrentBody().getRadius() / bodyDisplayDownscale;
+		bodyColor = player.getCurrentBody().getColor();
+		
+		//Same layout as the rotate axis HBox in SimulationPane: engine, fuselage and command module in a row, centered vertically
+		double engineLength = player.getEngine().getHeight() * rocketDisplayScale;
+		double engineWidth = player.getEngine().getWidth() * rocketDisplayScale;
+		fuselageLength = player.getFuselage().getHeight() * rocketDisplayScale;
+		fuselageWidth = player.getFuselage().getWidth() * rocketDisplayScale;
+		double commandModuleLength = player.getCommandModule().getHeight() * rocketDisplayScale;
+		double commandModuleWidth = player.getCommandModule().getWidth() * rocketDisplayScale;
+		double length = engineLength + fuselageLength + commandModuleLength;
+		double width = Math.max(engineWidth, Math.max(fuselageWidth, commandModuleWidth));
+		
+		double left = -length / 2;
+		engineX = new double[] {left, left + engineLength, left};
+		engineY = new double[] {-engineWidth / 2, 0, engineWidth / 2};
+		fuselageX = left + engineLength;
+		fuselageY = -fuselageWidth / 2;
+		left += engineLength + fuselageLength;
+		commandModuleX = new double[] {left, left + commandModuleLength, left};
+		commandModuleY = new double[] {-commandModuleWidth / 2, 0, commandModuleWidth / 2};
+		
+		rocketCenterX = (length - fuselageLength) / 2;
+		rocketCenterY = (width - fuselageWidth) / 2;
+		engineColor = player.getEngine().getColor();
+		fuselageColor = player.getFuselage().getColor();
+		commandModuleColor = player.getCommandModule().getColor();
+		
+		hudValid = false;
+	}
+
+	public void draw(SimulationSnapshot snapshot, TimeWarp timeWarp, boolean refreshHud) { //The HUD keeps its old numbers unless 'refreshHud'
+		GraphicsContext gc = world.getGraphicsContext2D();
+		gc.setFill(Color.BLACK);
+		gc.fillRect(0, 0, world.getWidth(), world.getHeight());
+		drawBody(gc, snapshot.getAltitude());
+		drawRocket(gc, snapshot.getQueuedRotationAngleInDegrees());
+		if(refreshHud || !hudValid) {
+			drawHud(snapshot, timeWarp);
+		}
+	}
+
+	private void drawBody(GraphicsContext gc, double altitude) { //The camera is centered on the rocket with the body straight below it
+		double width = world.getWidth();
+		double height = world.getHeight();
+		double centerX = width / 2;
+		double centerY = height / 2 + altitude / bodyDisplayDownscale + bodyRadius;
+		if(centerY - bodyRadius > height) { //Below the bottom of the screen
+			return;
+		}
+
+		gc.setFill(bodyColor);
+		if(bodyRadius < width + height) { //Small enough to draw whole
+			gc.fillOval(centerX - bodyRadius, centerY - bodyRadius, 2 * bodyRadius, 2 * bodyRadius);
+			return;
+		}
+
+		//Only the top of the circle can reach the screen, so fill from the arc between the screen edges down to the bottom
+		double fromX = Math.max(0, centerX - bodyRadius);
+		double toX = Math.min(width, centerX + bodyRadius);
+		for(int i = 0; i < HORIZON_POINTS; i++) {
+			double x = fromX + (toX - fromX) * i / (HORIZON_POINTS - 1);
+			double dx = x - centerX;
+			horizonX[i] = x;
+			horizonY[i] = centerY - Math.sqrt(Math.max(0, bodyRadius * bodyRadius - dx * dx));
+		}
+		horizonX[HORIZON_POINTS] = toX;
+		horizonY[HORIZON_POINTS] = height;
+		horizonX[HORIZON_POINTS + 1] = fromX;
+		horizonY[HORIZON_POINTS + 1] = height;
+		gc.fillPolygon(horizonX, horizonY, HORIZON_POINTS + 2);
+	}
+
+	private void drawRocket(GraphicsContext gc, double rotationAngleInDegrees) {
+		gc.save();
+		gc.translate(world.getWidth() / 2 + rocketCenterX, world.getHeight() / 2 + rocketCenterY);
+		gc.rotate(-rotationAngleInDegrees);
+		gc.setFill(engineColor);
+		gc.fillPolygon(engineX, engineY, 3);
+		gc.setFill(fuselageColor);
+		gc.fillRect(fuselageX, fuselageY, fuselageLength, fuselageWidth);
+		gc.setFill(commandModuleColor);
+		gc.fillPolygon(commandModuleX, commandModuleY, 3);
+		gc.restore();
+	}
+
+	private void drawHud(SimulationSnapshot snapshot, TimeWarp timeWarp) {
+		GraphicsContext gc = hud.getGraphicsContext2D();
+		if(!hudValid) {
+			gc.clearRect(0, 0, hud.getWidth(), hud.getHeight());
+		}
+		drawHudValue(gc, HUD_SPEED, (int)snapshot.calculateSpeed(), "Speed: %d m/s");
+		drawHudValue(gc, HUD_ALTITUDE, (int)snapshot.getAltitude(), "Altitude: %d m");
+		drawHudValue(gc, HUD_THRUST, (int)(snapshot.getThrustPercent() * 100), "Thrust Percent: %d%%");
+		drawHudValue(gc, HUD_TIME_WARP, timeWarp.ordinal(), null);
+		hudValid = true;
+	}
+
+	private void drawHudValue(GraphicsContext gc, int field, int value, String format) { //Only redraws the field when 'value' changed
+		if(hudValid && hudValues[field] == value) {
+			return;
+		}
+		hudValues[field] = value;
+		
+		double rowY = 10 + field * HUD_ROW_HEIGHT; //One row per field, the center of the pane is too narrow for them side by side
+		gc.clearRect(0, rowY, hud.getWidth(), HUD_ROW_HEIGHT);
+		String text;
+		if(field == HUD_TIME_WARP) {
+			TimeWarp timeWarp = TimeWarp.values()[value];
+			text = "Time Warp: " + (timeWarp == TimeWarp.MAX ? "Max" : timeWarp.stepsPerFrame + "x");
+		}
+		else {
+			text = String.format(format, value);
+		}
+		gc.fillText(text, 10, rowY);
+	}
+
+	@Override
+	protected void layoutChildren() { //Canvases don't resize themselves, so they follow the pane
+		if(world.getWidth() != getWidth() || world.getHeight() != getHeight()) {
+			world.setWidth(getWidth());
+			world.setHeight(getHeight());
+			hud.setWidth(getWidth());
+			hud.setHeight(getHeight());
+			hudValid = false;
+		}
+	}
+
+}
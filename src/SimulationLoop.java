@@ -0,0 +1,136 @@
+//***************************************************************
+// Class: SimulationLoop
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Steps the GameManager at a fixed rate on its own thread and publishes a snapshot after every step
+//
+// Attributes:  -gameManager: GameManager
+//				-stepNanos: long
+//				-timeWarp: TimeWarp
+//				-running: boolean
+//				-thread: Thread
+//				-snapshot: AtomicReference<SimulationSnapshot>
+//				-monitor: PerformanceMonitor
+//
+// Methods: +start(): void,
+//			+stop(): void,
+//			+run(): void,
+//			+onStep(GameManager): void,
+//			+onLanding(GameManager): void,
+//			+onControl(GameManager, ControlType, double): void,
+//			+getSnapshot(): SimulationSnapshot
+//
+//**************************************************************
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+public class SimulationLoop implements Runnable, SimulationObserver {
+	
+	private static final int MAX_STEPS_BEHIND = 5; //Past this the loop stops trying to catch up instead of spiraling
+	
+	private final GameManager gameManager;
+	private final long stepNanos;
+	private volatile TimeWarp timeWarp = TimeWarp.X1;
+	
+	private volatile boolean running = false;
+	private Thread thread;
+	
+	//Only the simulation thread writes the snapshot, any thread can read it
+	private final AtomicReference<SimulationSnapshot> snapshot = new AtomicReference<>();
+	private volatile PerformanceMonitor monitor = null; //Times every tick when set
+	
+	public SimulationLoop(GameManager newGameManager) {
+		gameManager = newGameManager;
+		stepNanos = Math.round(gameManager.timeStep * 1000000000L);
+	}
+
+	public void start() {
+		stop();
+		snapshot.set(new SimulationSnapshot(gameManager, null)); //So the first frame has something to draw
+		
+		running = true;
+		thread = new Thread(this, "Simulation");
+		thread.setDaemon(true); //Never keeps the program open after the window closes
+		thread.start();
+	}
+
+	public void stop() { //Waits for the current step to finish, after this the GameManager is safe to use from the caller
+		running = false;
+		if(thread != null && thread != Thread.currentThread()) {
+			LockSupport.unpark(thread);
+			try {
+				thread.join();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			thread = null;
+		}
+	}
+
+	@Override
+	public void run() {
+		long nextStepTime = System.nanoTime();
+		while(running) {
+			//Time warp runs several steps per tick, the last part of the tick is left free
+			TimeWarp warp = timeWarp;
+			long tickStart = System.nanoTime();
+			long firstStep = gameManager.getStepCount();
+			gameManager.simulate(warp.stepsPerFrame, stepNanos * 3 / 4);
+			PerformanceMonitor currentMonitor = monitor;
+			if(currentMonitor != null) {
+				currentMonitor.recordTick(System.nanoTime() - tickStart, gameManager.getStepCount() - firstStep);
+			}
+
+			nextStepTime += stepNanos;
+			long wait = nextStepTime - System.nanoTime();
+			if(wait > 0) {
+				LockSupport.parkNanos(wait);
+			}
+			else if(-wait > MAX_STEPS_BEHIND * stepNanos) {
+				nextStepTime = System.nanoTime();
+			}
+		}
+	}
+
+	@Override
+	public void onStep(GameManager gameManager) {
+		snapshot.set(new SimulationSnapshot(gameManager, snapshot.get()));
+	}
+
+	@Override
+	public void onLanding(GameManager gameManager) {
+		running = false; //The thread ends after this step, the renderer sees the landed snapshot
+	}
+
+	@Override
+	public void onControl(GameManager gameManager, ControlType type, double value) {
+	}
+
+	//Getters/Setters
+	public SimulationSnapshot getSnapshot() {
+		return snapshot.get();
+	}
+
+	public TimeWarp getTimeWarp() {
+		return timeWarp;
+	}
+
+	public void setTimeWarp(TimeWarp timeWarp) {
+		this.timeWarp = timeWarp;
+	}
+
+	public PerformanceMonitor getMonitor() {
+		return monitor;
+	}
+
+	public void setMonitor(PerformanceMonitor monitor) {
+		this.monitor = monitor;
+	}
+
+	public boolean isRunning() {
+		return running;
+	}
+
+}
@@ -0,0 +1,24 @@
+//***************************************************************
+// Interface: SimulationObserver
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Optional listener attached to a GameManager (rendering, logging, etc.)
+//
+// Attributes:
+//
+// Methods: +onStep(GameManager): void,
+//			+onLanding(GameManager): void,
+//			+onControl(GameManager, ControlType, double): void
+//
+//**************************************************************
+
+public interface SimulationObserver {
+	
+	public void onStep(GameManager gameManager); //Called after every simulate() call, which can cover many steps when time warping
+	
+	public void onLanding(GameManager gameManager); //Called once when the rocket touches the surface
+	
+	public void onControl(GameManager gameManager, ControlType type, double value); //Called when a queued control is applied, before that step runs
+
+}
@@ -1,7 +1,7 @@
 //***************************************************************
 // Class: SimulationPane
 // Author: Monstroe
-// Modified: 4/22/2022
+// Modified: 10/18/2026
 //
 // Purpose: Pane responsible for running the simulation
 //
@@ -9,23 +9,53 @@
 //				-landingSim: LSGUI
 //				-rocketDisplayScale: double
 //				-bodyDisplayDownscale: double
+//				-simulationLoop: SimulationLoop
+//				-replayDirectory: File
+//				-replayRecorder: ReplayRecorder
+//				-telemetryDirectory: File
+//				-telemetryWriter: TelemetryWriter
+//				-telemetryChart: TelemetryChart
+//				-canvasRendering: boolean
+//				-simulationCanvas: SimulationCanvas
+//				-hudRefreshRate: double
+//				-lastHudRefresh: long
+//				-performanceMonitor: PerformanceMonitor
+//				-metricsDirectory: File
+//				-metricsName: String
+//				-metricsWriter: ExecutorService
 // 
 // Methods: +startSimulation(): void,
 //			+stopSimulation(): void,
+//			-startRecording(): void,
+//			-stopRecording(): void,
+//			-writeMetrics(MetricsRegistry, File): void,
+//			+close(): void,
 //			+resetDisplay(): void,
-//			+displayPosition(): void,
-//			+displayRotation(): void,
-//			+displaySpeed(): void,
-//			+displayAltitude(): void,
-//			+displayThrustPercent(): void,
-//			+updateFuelBar(): void,
+//			+render(long): void,
+//			+displayPosition(SimulationSnapshot): void,
+//			+displayRotation(SimulationSnapshot): void,
+//			+displaySpeed(SimulationSnapshot): void,
+//			+displayAltitude(SimulationSnapshot): void,
+//			+displayThrustPercent(SimulationSnapshot): void,
+//			+displayTimeWarp(): void,
+//			+changeTimeWarp(int): void,
+//			+updateFuelBar(SimulationSnapshot): void,
+//			+toggleTelemetryChart(): void,
+//			+togglePerformanceOverlay(): void,
 //			+setActivePane(ActivePane): void,
 //			+initialize(): void
 //
 //**************************************************************
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javafx.animation.AnimationTimer;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Group;
@@ -38,14 +68,31 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Rectangle;
-import javafx.util.Duration;
 
 public class SimulationPane extends BorderPane {
 	
-	public final int framesPerSecond = 60; //Public since it can't be changed
+	public final int framesPerSecond = 60; //Physics steps per second, rendering runs at the display's own rate. Public since it can't be changed
 	private LSGUI landingSim;
 	private double rocketDisplayScale = 1;
 	private double bodyDisplayDownscale = 1;
+	private SimulationLoop simulationLoop;
+	private File replayDirectory = null; //Runs are only recorded when this is set
+	private ReplayRecorder replayRecorder;
+	private File telemetryDirectory = null; //Telemetry is only written when this is set
+	private TelemetryWriter telemetryWriter;
+	private TelemetryChart telemetryChart; //Kept between runs so its buffers are only allocated once
+	private boolean canvasRendering = false; //Draw with SimulationCanvas instead of scene graph nodes
+	private SimulationCanvas simulationCanvas;
+	private double hudRefreshRate = 15; //Times per second the speed, altitude and thrust are updated, 0 for every frame
+	private long lastHudRefresh = 0;
+	private PerformanceMonitor performanceMonitor;
+	private File metricsDirectory = null; //Each run's metrics are written here when it ends, when this is set
+	private String metricsName; //File name of the current run's metrics without the extension
+	private final ExecutorService metricsWriter = Executors.newSingleThreadExecutor(runnable -> { //Keeps the file writes off the FX thread
+		Thread thread = new Thread(runnable, "Metrics I/O");
+		thread.setDaemon(true);
+		return thread;
+	});
 	
 	private Circle body;
 	
@@ -54,16 +101,18 @@ public class SimulationPane extends BorderPane {
 	private Polygon commandModule;
 	private Polygon engine;
 	
-	private Timeline paneUpdate;
+	private AnimationTimer paneUpdate;
 	
 	private HBox statusBar;
 	private HBox winBar;
-	private Group sideBar;
+	private HBox sideBar;
 	
-	private Label lblSpeed;
-	private Label lblThrustPercent;
-	private Label lblAltitude;
+	private HudLabel lblSpeed;
+	private HudLabel lblThrustPercent;
+	private HudLabel lblAltitude;
+	private Label lblTimeWarp;
 	private Label lblWin;
+	private Label lblPerformance;
 	private Rectangle fuelBarOutline;
 	private Rectangle fuelBar;
 	
@@ -74,14 +123,27 @@ public class SimulationPane extends BorderPane {
 	}
 	
 	public void startSimulation() {
+		simulationLoop.stop();
+		stopRecording();
 		landingSim.getGameManager().resetMathModel();
+		simulationLoop.setTimeWarp(TimeWarp.X1);
+		startRecording();
+		telemetryChart.clear();
 		resetDisplay();
+		lastHudRefresh = 0;
+		performanceMonitor.reset();
 		
-		initializeDisplayRocket();
-		initializeDisplayBody();
+		if(canvasRendering) {
+			initializeDisplayCanvas();
+		}
+		else {
+			initializeDisplayRocket();
+			initializeDisplayBody();
+		}
 		initializeUserInterface();
 		
-		paneUpdate.play();
+		simulationLoop.start();
+		paneUpdate.start();
 		
 		//DEBUG
 		//System.out.println("Mass: " + landingSim.getGameManager().getPlayer().getCurrentBody().getMass());
@@ -91,6 +153,8 @@ public class SimulationPane extends BorderPane {
 	
 	public void stopSimulation() {
 		paneUpdate.stop();
+		simulationLoop.stop(); //The GameManager is only read here once its thread is done with it
+		stopRecording();
 		if(landingSim.getGameManager().hasWon(70, 110, 10)) {
 			lblWin.setText("You Won!");
 		}
@@ -100,17 +164,135 @@ public class SimulationPane extends BorderPane {
 		winBar.setVisible(true);
 	}
 	
+	private void startRecording() {
+		String runName = new SimpleDateFormat("yyyy-MM-dd HH-mm-ss").format(new Date());
+		if(replayDirectory != null) {
+			BuildPane buildPane = landingSim.getBuildPane();
+			Rocket player = landingSim.getGameManager().getPlayer();
+			File file = new File(replayDirectory, "Replay " + runName + ReplayRecorder.EXTENSION);
+			try {
+				replayDirectory.mkdirs();
+				PartCatalog catalog = PartCatalog.getDefault(); //The build pane's parts are in catalog order
+				replayRecorder = new ReplayRecorder(file, landingSim.getGameManager(),
+						catalog.getCommandModules().get(buildPane.getCommandModules().indexOf(player.getCommandModule())).getId(),
+						catalog.getFuselages().get(buildPane.getFuselages().indexOf(player.getFuselage())).getId(),
+						catalog.getEngines().get(buildPane.getEngines().indexOf(player.getEngine())).getId());
+				landingSim.getGameManager().addObserver(replayRecorder);
+			} catch(IOException e) {
+				System.out.println("Unable to record a replay to '" + file.getPath() + "'.");
+				e.printStackTrace();
+			}
+		}
+		if(metricsDirectory != null) {
+			metricsName = "Metrics " + runName;
+		}
+		if(telemetryDirectory != null) {
+			File file = new File(telemetryDirectory, "Telemetry " + runName + TelemetryWriter.EXTENSION);
+			try {
+				telemetryDirectory.mkdirs();
+				telemetryWriter = new TelemetryWriter(file, landingSim.getGameManager().timeStep);
+				landingSim.getGameManager().addObserver(telemetryWriter);
+			} catch(IOException e) {
+				System.out.println("Unable to write telemetry to '" + file.getPath() + "'.");
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private void stopRecording() { //Only while the simulation loop is stopped
+		if(replayRecorder != null) {
+			landingSim.getGameManager().removeObserver(replayRecorder);
+			replayRecorder.close();
+			replayRecorder = null;
+		}
+		if(telemetryWriter != null) {
+			landingSim.getGameManager().removeObserver(telemetryWriter);
+			telemetryWriter.close();
+			telemetryWriter = null;
+		}
+		if(metricsName != null) {
+			MetricsRegistry metrics = performanceMonitor.getMetrics().copy(); //The next run resets and records into the monitor's own
+			File file = new File(metricsDirectory, metricsName);
+			metricsWriter.execute(() -> writeMetrics(metrics, file));
+			metricsName = null;
+		}
+	}
+
+	private void writeMetrics(MetricsRegistry metrics, File file) { //Metrics I/O thread, 'file' without the extension
+		File jsonFile = new File(file.getPath() + ".json");
+		File csvFile = new File(file.getPath() + ".csv");
+		try {
+			file.getParentFile().mkdirs();
+			metrics.writeJson(jsonFile);
+			metrics.writeCsv(csvFile);
+		} catch(IOException e) {
+			System.out.println("Unable to write metrics to '" + file.getParent() + "'.");
+			e.printStackTrace();
+		}
+	}
+
+	public void close() { //Waits a few seconds for metrics still being written, only call it when exiting
+		metricsWriter.shutdown();
+		try {
+			metricsWriter.awaitTermination(5, TimeUnit.SECONDS);
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
 	public void resetDisplay() {
 		this.getChildren().clear();
 	}
 	
+	//Called every pulse; draws the state between the two latest steps that matches the time since the latest one
+	public void render(long now) {
+		long renderStart = System.nanoTime();
+		SimulationSnapshot latest = simulationLoop.getSnapshot();
+		double alpha = (now - latest.getPublishTime()) / (landingSim.getGameManager().timeStep * 1000000000L);
+		SimulationSnapshot snapshot = latest.interpolate(alpha);
+		
+		//The numbers only need to be readable, not change every frame
+		boolean refreshHud = hudRefreshRate <= 0 || now - lastHudRefresh >= 1000000000L / hudRefreshRate || latest.hasLanded();
+		if(refreshHud) {
+			lastHudRefresh = now;
+		}
+
+		if(canvasRendering) {
+			simulationCanvas.draw(snapshot, simulationLoop.getTimeWarp(), refreshHud);
+		}
+		else {
+			displayPosition(snapshot);
+			displayRotation(snapshot);
+			if(refreshHud) {
+				displaySpeed(snapshot);
+				displayAltitude(snapshot);
+				displayThrustPercent(snapshot);
+			}
+		}
+		updateFuelBar(snapshot);
+		
+		//The chart only gets real steps, never interpolated ones
+		telemetryChart.addSample(latest);
+		if(telemetryChart.isVisible()) {
+			telemetryChart.draw();
+		}
+
+		if(performanceMonitor.recordFrame(now, System.nanoTime() - renderStart) && lblPerformance.isVisible()) {
+			lblPerformance.setText(performanceMonitor.getSummary());
+		}
+
+		if(latest.hasLanded()) {
+			stopSimulation();
+		}
+	}
+
 	//This is the position method that will be used in the finished project
-	public void displayPosition() { //CAMERA CENTERED AROUND ROCKET AND ROTATES WITH ROCKET
+	public void displayPosition(SimulationSnapshot snapshot) { //CAMERA CENTERED AROUND ROCKET AND ROTATES WITH ROCKET
 		//debugPosition();
 		//debugPosition2();
 		
 		body.setCenterX(getWidth()/2);
-		body.setCenterY(getHeight()/2 + (landingSim.getGameManager().getPlayer().calculateDistanceToSurfaceOfBody() + landingSim.getGameManager().getPlayer().getCurrentBody().getRadius())/bodyDisplayDownscale);
+		body.setCenterY(getHeight()/2 + (snapshot.getAltitude() + landingSim.getGameManager().getPlayer().getCurrentBody().getRadius())/bodyDisplayDownscale);
 		
 		rotateAxis.setLayoutX(getWidth()/2 - fuselage.getWidth()/2);
 		rotateAxis.setLayoutY(getHeight()/2 - fuselage.getHeight()/2);
@@ -137,9 +319,9 @@ public class SimulationPane extends BorderPane {
 	}
 	
 	//This is the rotation method that is used in the finished project
-	public void displayRotation() { //ROTATION WHEN CAMERA IS CENTERED ON ROCKET AND ROTATES WITH ROCKET
+	public void displayRotation(SimulationSnapshot snapshot) { //ROTATION WHEN CAMERA IS CENTERED ON ROCKET AND ROTATES WITH ROCKET
 		//debugRotation();
-		rotateAxis.setRotate(-landingSim.getGameManager().getPlayer().getQueuedRotationAngleInDegrees());
+		rotateAxis.setRotate(-snapshot.getQueuedRotationAngleInDegrees());
 	}
 	
 	//NOT USED
@@ -148,24 +330,61 @@ public class SimulationPane extends BorderPane {
 		rotateAxis.setRotate(-landingSim.getGameManager().getPlayer().getRotationAngleInDegrees());
 	}
 	
-	public void displaySpeed() {
-		lblSpeed.setText("Speed: " + (int)landingSim.getGameManager().getPlayer().calculateSpeed() + " m/s");
+	public void displaySpeed(SimulationSnapshot snapshot) {
+		lblSpeed.setValue((int)snapshot.calculateSpeed());
 	}
 	
-	public void displayAltitude() {
-		lblAltitude.setText("Altitude: " + (int)(landingSim.getGameManager().getPlayer().calculateDistanceToSurfaceOfBody()) + " m");
+	public void displayAltitude(SimulationSnapshot snapshot) {
+		lblAltitude.setValue((int)(snapshot.getAltitude()));
 	}
 	
-	public void displayThrustPercent() {
-		lblThrustPercent.setText("Thrust Percet: " + (int)(landingSim.getGameManager().getPlayer().getEngine().getThrustPercent() * 100) + "%");
+	public void displayThrustPercent(SimulationSnapshot snapshot) {
+		lblThrustPercent.setValue((int)(snapshot.getThrustPercent() * 100));
 	}
 	
-	public void updateFuelBar() {
-		fuelBar.setHeight(fuelBarOutline.getHeight() * landingSim.getGameManager().getPlayer().getFuselage().getFuelLevel() / landingSim.getGameManager().getPlayer().getFuselage().getMaxFuelLevel());
+	public void displayTimeWarp() { //The canvas renderer draws the time warp itself
+		if(canvasRendering) {
+			return;
+		}
+		TimeWarp timeWarp = simulationLoop.getTimeWarp();
+		lblTimeWarp.setText("Time Warp: " + (timeWarp == TimeWarp.MAX ? "Max" : timeWarp.stepsPerFrame + "x"));
+	}
+
+	public void changeTimeWarp(int change) {
+		TimeWarp timeWarp = simulationLoop.getTimeWarp();
+		simulationLoop.setTimeWarp(TimeWarp.values()[Math.max(0, Math.min(TimeWarp.values().length - 1, timeWarp.ordinal() + change))]);
+		displayTimeWarp();
+	}
+
+	public void updateFuelBar(SimulationSnapshot snapshot) {
+		fuelBar.setHeight(fuelBarOutline.getHeight() * snapshot.getFuelPercent());
+	}
+
+	public void togglePerformanceOverlay() {
+		lblPerformance.setVisible(!lblPerformance.isVisible());
+		if(lblPerformance.isVisible()) {
+			lblPerformance.setText(performanceMonitor.getSummary());
+		}
 	}
 	
+	public void toggleTelemetryChart() {
+		telemetryChart.setVisible(!telemetryChart.isVisible());
+		telemetryChart.setManaged(telemetryChart.isVisible());
+	}
+
 	//Initialization Methods
 	public void initialize() {
+		simulationLoop = new SimulationLoop(landingSim.getGameManager());
+		landingSim.getGameManager().addObserver(simulationLoop);
+		telemetryChart = new TelemetryChart(280, 320, 5 * 60 * 60); //Five minutes of frames at 60 fps
+		performanceMonitor = new PerformanceMonitor(60); //JavaFX pulses 60 times a second
+		simulationLoop.setMonitor(performanceMonitor);
+		
+		lblPerformance = new Label();
+		lblPerformance.setStyle("-fx-font: 12 monospace; -fx-text-fill: lime; -fx-background-color: rgba(0, 0, 0, 0.6); -fx-padding: 4");
+		lblPerformance.setManaged(false);
+		lblPerformance.setVisible(false);
+		
 		initializeTimeline();
 		initializeControls();
 	}
@@ -203,6 +422,14 @@ public class SimulationPane extends BorderPane {
 		this.getChildren().add(rotateAxis);
 	}
 	
+	private void initializeDisplayCanvas() {
+		if(simulationCanvas == null) {
+			simulationCanvas = new SimulationCanvas();
+		}
+		simulationCanvas.initialize(landingSim.getGameManager().getPlayer(), rocketDisplayScale, bodyDisplayDownscale);
+		this.setCenter(simulationCanvas);
+	}
+
 	private void initializeDisplayBody() {
 		body = new Circle(landingSim.getGameManager().getPlayer().getCurrentBody().getRadius() / bodyDisplayDownscale);
 		body.setFill(landingSim.getGameManager().getPlayer().getCurrentBody().getColor());
@@ -211,9 +438,15 @@ public class SimulationPane extends BorderPane {
 	}
 
 	private void initializeUserInterface() {
-		initializeStatusBar();
+		if(!canvasRendering) { //The canvas draws its own status text
+			initializeStatusBar();
+		}
 		initializeSideBar();
 		initializeWinBar();
+		
+		//Drawn over everything else in the top left corner, below the status bar
+		lblPerformance.relocate(10, 60);
+		this.getChildren().add(lblPerformance);
 	}
 	
 	private void initializeWinBar() {
@@ -230,6 +463,8 @@ public class SimulationPane extends BorderPane {
 			startSimulation();
 		});
 		btnMainMenu.setOnAction(e -> {
+			simulationLoop.stop();
+			stopRecording();
 			landingSim.setActivePane(ActivePane.MENUPANE);
 		});
 		
@@ -249,9 +484,13 @@ public class SimulationPane extends BorderPane {
 		fuelBarOutline.setFill(Color.TRANSPARENT);
 		fuelBarOutline.setStroke(Color.WHITE);
 		
-		sideBar = new Group();
-		sideBar.getChildren().add(fuelBar);
-		sideBar.getChildren().add(fuelBarOutline);
+		Group fuelGauge = new Group();
+		fuelGauge.getChildren().add(fuelBar);
+		fuelGauge.getChildren().add(fuelBarOutline);
+		
+		sideBar = new HBox(10);
+		sideBar.getChildren().add(telemetryChart);
+		sideBar.getChildren().add(fuelGauge);
 		
 		this.setRight(sideBar);
 		this.setPadding(new Insets(0, 10, 0, 0));	
@@ -262,44 +501,65 @@ public class SimulationPane extends BorderPane {
 		statusBar.setAlignment(Pos.CENTER);
 		statusBar.setPadding(new Insets(10, 10, 10, 10));
 		
-		lblSpeed = new Label("Speed: ");
+		lblSpeed = new HudLabel("Speed: ", " m/s");
 		lblSpeed.setStyle("-fx-font: 18 Roboto; -fx-text-fill: white");
-		lblAltitude = new Label("Altitude: ");
+		lblAltitude = new HudLabel("Altitude: ", " m");
 		lblAltitude.setStyle("-fx-font: 18 Roboto; -fx-text-fill: white");
-		lblThrustPercent = new Label("Thrust Percent: ");
+		lblThrustPercent = new HudLabel("Thrust Percent: ", "%");
 		lblThrustPercent.setStyle("-fx-font: 18 Roboto; -fx-text-fill: white");
+		lblTimeWarp = new Label("Time Warp: 1x");
+		lblTimeWarp.setStyle("-fx-font: 18 Roboto; -fx-text-fill: white");
 		
 		statusBar.getChildren().add(lblSpeed);
 		statusBar.getChildren().add(lblAltitude);
 		statusBar.getChildren().add(lblThrustPercent);
+		statusBar.getChildren().add(lblTimeWarp);
 		
 		this.setTop(statusBar);
 	}
 
 	private void initializeTimeline() {
-		paneUpdate = new Timeline(new KeyFrame(Duration.seconds(landingSim.getGameManager().timeStep), e -> landingSim.getGameManager().simulate()));
-		paneUpdate.setCycleCount(Timeline.INDEFINITE);
+		//Runs once per pulse on the FX thread, the physics runs on the simulation loop's thread
+		paneUpdate = new AnimationTimer() {
+			@Override
+			public void handle(long now) {
+				render(now);
+			}
+		};
 	}
 	
 	private void initializeControls() {
+		//Input is queued for the simulation thread, which applies it at the start of its next step
 		this.setOnKeyPressed(e -> {
 			if(e.getCode() == KeyCode.LEFT || e.getCode() == KeyCode.A) {
-				landingSim.getGameManager().getPlayer().rotate(landingSim.getGameManager().getPlayer().getCommandModule().getRotationSpeed() * landingSim.getGameManager().timeStep);
+				landingSim.getGameManager().submitControl(ControlType.ROTATE, landingSim.getGameManager().getPlayer().getCommandModule().getRotationSpeed() * landingSim.getGameManager().timeStep);
 			}
 			else if(e.getCode() == KeyCode.RIGHT || e.getCode() == KeyCode.D) {
-				landingSim.getGameManager().getPlayer().rotate(-landingSim.getGameManager().getPlayer().getCommandModule().getRotationSpeed() * landingSim.getGameManager().timeStep);
+				landingSim.getGameManager().submitControl(ControlType.ROTATE, -landingSim.getGameManager().getPlayer().getCommandModule().getRotationSpeed() * landingSim.getGameManager().timeStep);
 			}
 			else if(e.getCode() == KeyCode.UP || e.getCode() == KeyCode.W) {
-				landingSim.getGameManager().getPlayer().getEngine().throttle(10 * landingSim.getGameManager().timeStep);
+				landingSim.getGameManager().submitControl(ControlType.THROTTLE, 10 * landingSim.getGameManager().timeStep);
 			}
 			else if(e.getCode() == KeyCode.DOWN || e.getCode() == KeyCode.S) {
-				landingSim.getGameManager().getPlayer().getEngine().throttle(-10 * landingSim.getGameManager().timeStep);
+				landingSim.getGameManager().submitControl(ControlType.THROTTLE, -10 * landingSim.getGameManager().timeStep);
 			}
 			else if(e.getCode() == KeyCode.SPACE) {
-				landingSim.getGameManager().getPlayer().getEngine().activate();
+				landingSim.getGameManager().submitControl(ControlType.ACTIVATE, 0);
 			}
 			else if(e.getCode() == KeyCode.X) {
-				landingSim.getGameManager().getPlayer().getEngine().deactivate();
+				landingSim.getGameManager().submitControl(ControlType.DEACTIVATE, 0);
+			}
+			else if(e.getCode() == KeyCode.PERIOD) {
+				changeTimeWarp(1);
+			}
+			else if(e.getCode() == KeyCode.COMMA) {
+				changeTimeWarp(-1);
+			}
+			else if(e.getCode() == KeyCode.C) {
+				toggleTelemetryChart();
+			}
+			else if(e.getCode() == KeyCode.F3) {
+				togglePerformanceOverlay();
 			}
 		});
 	}
@@ -345,6 +605,58 @@ public class SimulationPane extends BorderPane {
 		this.rocketDisplayScale = rocketDisplayScale;
 	}
 
+	public SimulationLoop getSimulationLoop() {
+		return simulationLoop;
+	}
+
+	public TelemetryChart getTelemetryChart() {
+		return telemetryChart;
+	}
+
+	public File getReplayDirectory() {
+		return replayDirectory;
+	}
+
+	public void setReplayDirectory(File replayDirectory) {
+		this.replayDirectory = replayDirectory;
+	}
+
+	public File getTelemetryDirectory() {
+		return telemetryDirectory;
+	}
+
+	public void setTelemetryDirectory(File telemetryDirectory) {
+		this.telemetryDirectory = telemetryDirectory;
+	}
+
+	public boolean isCanvasRendering() {
+		return canvasRendering;
+	}
+
+	public void setCanvasRendering(boolean canvasRendering) {
+		this.canvasRendering = canvasRendering;
+	}
+
+	public PerformanceMonitor getPerformanceMonitor() {
+		return performanceMonitor;
+	}
+
+	public File getMetricsDirectory() {
+		return metricsDirectory;
+	}
+
+	public void setMetricsDirectory(File metricsDirectory) {
+		this.metricsDirectory = metricsDirectory;
+	}
+
+	public double getHudRefreshRate() {
+		return hudRefreshRate;
+	}
+
+	public void setHudRefreshRate(double hudRefreshRate) {
+		this.hudRefreshRate = hudRefreshRate;
+	}
+
 	public double getBodyDisplayDownscale() {
 		return bodyDisplayDownscale;
 	}
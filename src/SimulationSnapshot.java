@@ -0,0 +1,156 @@
+//***************************************************************
+// Class: SimulationSnapshot
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Immutable copy of the simulation state after a step, handed from the simulation thread to the renderer
+//
+// Attributes:  -publishTime: long
+//				-simulationTime: double
+//				-xPosition, yPosition: double
+//				-xVelocity, yVelocity: double
+//				-rotationAngleInDegrees: double
+//				-queuedRotationAngleInDegrees: double
+//				-altitude: double
+//				-thrustPercent: double
+//				-fuelPercent: double
+//				-landed: boolean
+//				-previous: SimulationSnapshot
+//
+// Methods: +interpolate(double): SimulationSnapshot,
+//			+calculateSpeed(): double,
+//			-interpolateAngle(double, double, double): double
+//
+//**************************************************************
+
+public class SimulationSnapshot {
+	
+	private final long publishTime; //System.nanoTime() when the step finished
+	private final double simulationTime;
+	private final double xPosition;
+	private final double yPosition;
+	private final double xVelocity;
+	private final double yVelocity;
+	private final double rotationAngleInDegrees;
+	private final double queuedRotationAngleInDegrees;
+	private final double altitude;
+	private final double thrustPercent;
+	private final double fuelPercent; //Fuel level out of the max fuel level (0 to 1)
+	private final boolean landed;
+	
+	private final SimulationSnapshot previous; //Step before this one (never has a previous of its own), null on the first step
+	
+	public SimulationSnapshot(GameManager gameManager, SimulationSnapshot newPrevious) {
+		Rocket player = gameManager.getPlayer();
+		
+		publishTime = System.nanoTime();
+		simulationTime = gameManager.getSimulationTime();
+		xPosition = player.getXPosition();
+		yPosition = player.getYPosition();
+		xVelocity = player.getXVelocity();
+		yVelocity = player.getYVelocity();
+		rotationAngleInDegrees = player.getRotationAngleInDegrees();
+		queuedRotationAngleInDegrees = player.getQueuedRotationAngleInDegrees();
+		altitude = player.calculateDistanceToSurfaceOfBody();
+		thrustPercent = player.getEngine().getThrustPercent();
+		fuelPercent = player.getFuselage().getFuelLevel() / player.getFuselage().getMaxFuelLevel();
+		landed = gameManager.hasLanded();
+		
+		//Only one step is kept, otherwise every snapshot would hold on to the whole flight
+		if(newPrevious == null || newPrevious.previous == null) {
+			previous = newPrevious;
+		}
+		else {
+			previous = new SimulationSnapshot(newPrevious, newPrevious, 1, null);
+		}
+	}
+
+	private SimulationSnapshot(SimulationSnapshot from, SimulationSnapshot to, double alpha, SimulationSnapshot newPrevious) {
+		publishTime = to.publishTime;
+		simulationTime = from.simulationTime + (to.simulationTime - from.simulationTime) * alpha;
+		xPosition = from.xPosition + (to.xPosition - from.xPosition) * alpha;
+		yPosition = from.yPosition + (to.yPosition - from.yPosition) * alpha;
+		xVelocity = from.xVelocity + (to.xVelocity - from.xVelocity) * alpha;
+		yVelocity = from.yVelocity + (to.yVelocity - from.yVelocity) * alpha;
+		rotationAngleInDegrees = interpolateAngle(from.rotationAngleInDegrees, to.rotationAngleInDegrees, alpha);
+		queuedRotationAngleInDegrees = interpolateAngle(from.queuedRotationAngleInDegrees, to.queuedRotationAngleInDegrees, alpha);
+		altitude = from.altitude + (to.altitude - from.altitude) * alpha;
+		thrustPercent = from.thrustPercent + (to.thrustPercent - from.thrustPercent) * alpha;
+		fuelPercent = from.fuelPercent + (to.fuelPercent - from.fuelPercent) * alpha;
+		landed = to.landed;
+		previous = newPrevious;
+	}
+
+	//State 'alpha' (0 to 1) of the way from the previous step to this one, the renderer draws one step behind the physics
+	public SimulationSnapshot interpolate(double alpha) {
+		SimulationSnapshot interpolated = this;
+		if(previous != null && !landed) { //The touchdown step is drawn as is so the rocket never stops short of the surface
+			interpolated = new SimulationSnapshot(previous, this, Math.max(0, Math.min(1, alpha)), null);
+		}
+		return interpolated;
+	}
+
+	public double calculateSpeed() {
+		return Math.sqrt(xVelocity * xVelocity + yVelocity * yVelocity);
+	}
+
+	private double interpolateAngle(double from, double to, double alpha) { //Shortest way around, result kept between 0 (exclusive) and 360 (inclusive)
+		double change = ((to - from) % 360 + 540) % 360 - 180;
+		double angle = (from + change * alpha) % 360;
+		return angle <= 0 ? angle + 360 : angle;
+	}
+
+	//Getters
+	public long getPublishTime() {
+		return publishTime;
+	}
+
+	public double getSimulationTime() {
+		return simulationTime;
+	}
+
+	public double getXPosition() {
+		return xPosition;
+	}
+
+	public double getYPosition() {
+		return yPosition;
+	}
+
+	public double getXVelocity() {
+		return xVelocity;
+	}
+
+	public double getYVelocity() {
+		return yVelocity;
+	}
+
+	public double getRotationAngleInDegrees() {
+		return rotationAngleInDegrees;
+	}
+
+	public double getQueuedRotationAngleInDegrees() {
+		return queuedRotationAngleInDegrees;
+	}
+
+	public double getAltitude() {
+		return altitude;
+	}
+
+	public double getThrustPercent() {
+		return thrustPercent;
+	}
+
+	public double getFuelPercent() {
+		return fuelPercent;
+	}
+
+	public boolean hasLanded() {
+		return landed;
+	}
+
+	public SimulationSnapshot getPrevious() {
+		return previous;
+	}
+
+}
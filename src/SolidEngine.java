@@ -1,7 +1,7 @@
 //***************************************************************
 // Class: Solid Engine
 // Author: Monstroe
-// Modified: 4/22/2022
+// Modified: 10/18/2026
 //
 // Purpose: Controls thrust of solid engines.
 //
@@ -9,6 +9,8 @@
 // 
 // Methods: +deactivate(): void
 //			+throttle(double): void
+//			+isThrottleable(): boolean
+//			+copy(): Engine
 //
 //**************************************************************
 
@@ -36,6 +38,15 @@ public class SolidEngine extends Engine {
 		System.out.println("Cannot change thrust percent as this is a Solid Engine");
 	}
 	
+	@Override
+	public boolean isThrottleable() {
+		return false;
+	}
+	
+	@Override
+	public Engine copy() {
+		return new SolidEngine(getMass(), getWidth(), getHeight(), getName(), getColor(), getMaxThrust());
+	}
 	
 
 }
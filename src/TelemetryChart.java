@@ -0,0 +1,187 @@
+//***************************************************************
+// Class: TelemetryChart
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Live altitude/speed/fuel/thrust history drawn on a single Canvas
+//
+// Attributes:  -samplesPerColumn: int
+//				-columnMins: DoubleRingBuffer[]
+//				-columnMaxs: DoubleRingBuffer[]
+//				-partialMins: double[]
+//				-partialMaxs: double[]
+//				-partialCount: int
+//				-lastTime: double
+//				-labels: String[]
+//				-labelValues: double[]
+//				-dirty: boolean
+//
+// Methods: +addSample(SimulationSnapshot): void,
+//			-addValue(int, double): void,
+//			+clear(): void,
+//			+draw(): void,
+//			-drawChannel(GraphicsContext, int, double, double): void
+//
+//**************************************************************
+
+//Every pixel column covers a fixed number of samples, and its min and max are kept as the samples arrive. Drawing only walks
+//the columns, so its cost depends on the width and not on how much history is shown. The newest column fills up from the
+//left until the chart is full, after which the oldest column scrolls off.
+
+import java.text.DecimalFormat;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+
+public class TelemetryChart extends Canvas {
+	
+	private static final String[] CHANNEL_NAMES = {"Altitude (m)", "Speed (m/s)", "Fuel (%)", "Thrust (%)"};
+	private static final Color[] CHANNEL_COLORS = {Color.DEEPSKYBLUE, Color.ORANGE, Color.RED, Color.LIMEGREEN};
+	private static final int ALTITUDE = 0;
+	private static final int SPEED = 1;
+	private static final int FUEL = 2;
+	private static final int THRUST = 3;
+	
+	private final int samplesPerColumn;
+	private final DoubleRingBuffer[] columnMins = new DoubleRingBuffer[CHANNEL_NAMES.length]; //Finished columns, oldest first
+	private final DoubleRingBuffer[] columnMaxs = new DoubleRingBuffer[CHANNEL_NAMES.length];
+	private final double[] partialMins = new double[CHANNEL_NAMES.length]; //Column still being filled
+	private final double[] partialMaxs = new double[CHANNEL_NAMES.length];
+	private int partialCount = 0;
+	private double lastTime = Double.NaN; //NaN until the first sample
+	private boolean dirty = true; //Only redrawn when something changed
+	
+	//The text of each channel's label is only rebuilt when its rounded value changes
+	private final String[] labels = new String[CHANNEL_NAMES.length];
+	private final double[] labelValues = new double[CHANNEL_NAMES.length];
+	
+	//Reused every draw so nothing is allocated per frame
+	private final double[] lineX;
+	private final double[] lineY;
+	
+	private final DecimalFormat format = new DecimalFormat("#,##0");
+	
+	public TelemetryChart(double width, double height, int capacity) { //About 'capacity' samples of history per channel
+		super(width, height);
+		int columns = Math.max(2, (int)width);
+		samplesPerColumn = Math.max(1, (capacity + columns - 1) / columns);
+		for(int i = 0; i < CHANNEL_NAMES.length; i++) {
+			columnMins[i] = new DoubleRingBuffer(columns - 1); //The partial column is the last one
+			columnMaxs[i] = new DoubleRingBuffer(columns - 1);
+		}
+		lineX = new double[2 * columns];
+		lineY = new double[2 * columns];
+		clear();
+	}
+
+	public void addSample(SimulationSnapshot snapshot) { //Ignored if it is the same step as the last sample
+		if(snapshot.getSimulationTime() != lastTime) {
+			lastTime = snapshot.getSimulationTime();
+			addValue(ALTITUDE, snapshot.getAltitude());
+			addValue(SPEED, snapshot.calculateSpeed());
+			addValue(FUEL, snapshot.getFuelPercent() * 100);
+			addValue(THRUST, snapshot.getThrustPercent() * 100);
+			
+			partialCount++;
+			if(partialCount == samplesPerColumn) {
+				for(int i = 0; i < CHANNEL_NAMES.length; i++) {
+					columnMins[i].add(partialMins[i]);
+					columnMaxs[i].add(partialMaxs[i]);
+					partialMins[i] = Double.POSITIVE_INFINITY;
+					partialMaxs[i] = Double.NEGATIVE_INFINITY;
+				}
+				partialCount = 0;
+			}
+			dirty = true;
+		}
+	}
+
+	private void addValue(int channel, double value) {
+		partialMins[channel] = Math.min(partialMins[channel], value);
+		partialMaxs[channel] = Math.max(partialMaxs[channel], value);
+		
+		double rounded = Math.rint(value); //Rounds like the format does
+		if(rounded != labelValues[channel] || labels[channel] == null) {
+			labelValues[channel] = rounded;
+			labels[channel] = CHANNEL_NAMES[channel] + ": " + format.format(rounded);
+		}
+	}
+
+	public void clear() {
+		for(int i = 0; i < CHANNEL_NAMES.length; i++) {
+			columnMins[i].clear();
+			columnMaxs[i].clear();
+			partialMins[i] = Double.POSITIVE_INFINITY;
+			partialMaxs[i] = Double.NEGATIVE_INFINITY;
+			labels[i] = null;
+		}
+		partialCount = 0;
+		lastTime = Double.NaN;
+		dirty = true;
+	}
+
+	public void draw() {
+		if(!dirty) {
+			return;
+		}
+		dirty = false;
+		
+		GraphicsContext gc = getGraphicsContext2D();
+		gc.setFill(Color.BLACK);
+		gc.fillRect(0, 0, getWidth(), getHeight());
+		gc.setFont(Font.font("Roboto", 11));
+		gc.setTextBaseline(VPos.TOP);
+		
+		double channelHeight = getHeight() / CHANNEL_NAMES.length;
+		for(int i = 0; i < CHANNEL_NAMES.length; i++) {
+			drawChannel(gc, i, i * channelHeight, channelHeight);
+		}
+	}
+
+	//Each pixel column draws the min to max of the samples that fell in it
+	private void drawChannel(GraphicsContext gc, int channel, double top, double height) {
+		DoubleRingBuffer mins = columnMins[channel];
+		DoubleRingBuffer maxs = columnMaxs[channel];
+		int finished = mins.getSize();
+		int columns = finished + (partialCount > 0 ? 1 : 0);
+		
+		gc.setStroke(Color.gray(0.3));
+		gc.strokeRect(0.5, top + 0.5, getWidth() - 1, height - 1);
+		gc.setFill(CHANNEL_COLORS[channel]);
+		gc.fillText(labels[channel] == null ? CHANNEL_NAMES[channel] + ": -" : labels[channel], 4, top + 2);
+		if(columns == 0) {
+			return;
+		}
+
+		double low = channel == FUEL || channel == THRUST ? 0 : Double.POSITIVE_INFINITY;
+		double high = channel == FUEL || channel == THRUST ? 100 : Double.NEGATIVE_INFINITY;
+		for(int column = 0; column < finished; column++) {
+			low = Math.min(low, mins.get(column));
+			high = Math.max(high, maxs.get(column));
+		}
+		if(partialCount > 0) {
+			low = Math.min(low, partialMins[channel]);
+			high = Math.max(high, partialMaxs[channel]);
+		}
+		double range = Math.max(high - low, 1e-9);
+		
+		//One polyline going down and up each column
+		double plotTop = top + 16;
+		double plotHeight = height - 20;
+		int points = 0;
+		for(int column = 0; column < columns; column++) {
+			double columnMax = column < finished ? maxs.get(column) : partialMaxs[channel];
+			double columnMin = column < finished ? mins.get(column) : partialMins[channel];
+			lineX[points] = column + 0.5;
+			lineY[points++] = plotTop + (high - columnMax) / range * plotHeight;
+			lineX[points] = column + 0.5;
+			lineY[points++] = plotTop + (high - columnMin) / range * plotHeight;
+		}
+		gc.setStroke(CHANNEL_COLORS[channel]);
+		gc.strokePolyline(lineX, lineY, points);
+	}
+
+}
@@ -0,0 +1,21 @@
+//***************************************************************
+// Class: TelemetryField
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Columns of a telemetry file, in the order they are stored
+//
+//**************************************************************
+
+public enum TelemetryField {
+	TIME,
+	X_POSITION,
+	Y_POSITION,
+	X_VELOCITY,
+	Y_VELOCITY,
+	SPEED,
+	ALTITUDE,
+	THRUST_PERCENT,
+	FUEL_LEVEL,
+	ROTATION
+}
@@ -0,0 +1,230 @@
+//***************************************************************
+// Class: TelemetryPyramid
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Min/max/mean of one telemetry field at every zoom level, built as samples are appended
+//
+// Attributes:  -fanout: int
+//				-levels: Level[]
+//				-tail: double[]
+//				-sampleCount: long
+//
+// Methods: +append(double): void,
+//			+fetch(long, long, int, double[], double[], double[]): int,
+//			+getBucketSize(int): long,
+//			+getBucketCount(int): int,
+//			-appendBucket(int, double, double, double): void,
+//			+build(TelemetryReader, TelemetryField): TelemetryPyramid
+//
+//**************************************************************
+
+//Level 0 buckets hold 'fanout' samples, level 1 buckets 'fanout' level 0 buckets, and so on. Only finished buckets are
+//visible (plus the newest samples that have not filled a bucket yet), so one thread can append while another fetches.
+//Raw samples are not kept, read them from a TelemetryReader.
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+public class TelemetryPyramid {
+	
+	private static final int MAX_LEVELS = 16; //8^16 samples, far more than any flight
+	
+	//One zoom level, each bucket is stored as {min, max, sum} in 'buckets'
+	private static class Level {
+		private volatile double[] buckets = new double[3 * 64];
+		private volatile int count = 0; //Finished buckets, set after their values are written
+		private final long bucketSize;
+		
+		//Bucket being filled, only touched by the appending thread
+		private double partialMin = Double.POSITIVE_INFINITY;
+		private double partialMax = Double.NEGATIVE_INFINITY;
+		private double partialSum = 0;
+		private int partialCount = 0;
+		
+		private Level(long newBucketSize) {
+			bucketSize = newBucketSize;
+		}
+	}
+
+	private final int fanout;
+	private final Level[] levels = new Level[MAX_LEVELS];
+	private final double[] tail; //Raw samples of the unfinished level 0 bucket, indexed by sample % fanout
+	private volatile long sampleCount = 0;
+	
+	public TelemetryPyramid() {
+		this(8);
+	}
+
+	public TelemetryPyramid(int newFanout) {
+		fanout = newFanout;
+		tail = new double[fanout];
+		long bucketSize = 1;
+		for(int i = 0; i < MAX_LEVELS; i++) {
+			bucketSize *= fanout;
+			levels[i] = new Level(bucketSize);
+		}
+	}
+
+	public void append(double value) { //O(1) amortized, only one thread may append
+		tail[(int)(sampleCount % fanout)] = value;
+		appendBucket(0, value, value, value);
+		sampleCount++; //Publishes the tail entry
+	}
+
+	private void appendBucket(int levelIndex, double min, double max, double sum) {
+		Level level = levels[levelIndex];
+		level.partialMin = Math.min(level.partialMin, min);
+		level.partialMax = Math.max(level.partialMax, max);
+		level.partialSum += sum;
+		level.partialCount++;
+		
+		if(level.partialCount == fanout) {
+			double[] buckets = level.buckets;
+			int index = level.count;
+			if(3 * index + 3 > buckets.length) {
+				buckets = Arrays.copyOf(buckets, buckets.length * 2);
+				level.buckets = buckets; //Published before anything past the old end is written
+			}
+			buckets[3 * index] = level.partialMin;
+			buckets[3 * index + 1] = level.partialMax;
+			buckets[3 * index + 2] = level.partialSum;
+			level.count = index + 1;
+			
+			if(levelIndex + 1 < MAX_LEVELS) {
+				appendBucket(levelIndex + 1, level.partialMin, level.partialMax, level.partialSum);
+			}
+			level.partialMin = Double.POSITIVE_INFINITY;
+			level.partialMax = Double.NEGATIVE_INFINITY;
+			level.partialSum = 0;
+			level.partialCount = 0;
+		}
+	}
+
+	//Fills up to 'points' entries of 'min', 'max' and 'mean' covering samples 'fromSample' to 'toSample', returns how many were filled.
+	//Uses the coarsest level that still has at least one bucket per point, so the cost depends on 'points' and not on the range.
+	//Points are made of whole buckets, so the ends of the range widen to the edges of the buckets they fall in, only the raw tail is cut exactly.
+	public int fetch(long fromSample, long toSample, int points, double[] min, double[] max, double[] mean) {
+		double samplesPerPoint = (toSample - fromSample) / (double)points;
+		int levelIndex = 0;
+		while(levelIndex + 1 < MAX_LEVELS && levels[levelIndex + 1].bucketSize <= samplesPerPoint && levels[levelIndex + 1].count > 0) {
+			levelIndex++;
+		}
+
+		Level level = levels[levelIndex];
+		int count = level.count; //Read before the array, so the array holds at least this many buckets
+		double[] buckets = level.buckets;
+		long firstBucket = Math.min(count, fromSample / level.bucketSize);
+		long lastBucket = Math.min(count, (toSample + level.bucketSize - 1) / level.bucketSize);
+		long bucketRange = lastBucket - firstBucket;
+		
+		int filled = (int)Math.min(points, bucketRange);
+		for(int point = 0; point < filled; point++) {
+			int start = (int)(firstBucket + bucketRange * point / filled);
+			int end = (int)(firstBucket + bucketRange * (point + 1) / filled);
+			
+			double pointMin = Double.POSITIVE_INFINITY;
+			double pointMax = Double.NEGATIVE_INFINITY;
+			double pointSum = 0;
+			for(int bucket = start; bucket < end; bucket++) {
+				pointMin = Math.min(pointMin, buckets[3 * bucket]);
+				pointMax = Math.max(pointMax, buckets[3 * bucket + 1]);
+				pointSum += buckets[3 * bucket + 2];
+			}
+			min[point] = pointMin;
+			max[point] = pointMax;
+			mean[point] = pointSum / ((end - start) * level.bucketSize);
+		}
+
+		//Buckets of this level that are not finished yet are covered by the finer levels, so the newest samples show up too
+		long covered = lastBucket * level.bucketSize;
+		long lastPointSamples = filled == 0 ? 0 : (bucketRange - bucketRange * (filled - 1) / filled) * level.bucketSize;
+		for(int finerIndex = levelIndex - 1; finerIndex >= 0 && covered < toSample && points > 0; finerIndex--) {
+			Level finer = levels[finerIndex];
+			int finerCount = finer.count;
+			double[] finerBuckets = finer.buckets;
+			long end = Math.min(finerCount, (toSample + finer.bucketSize - 1) / finer.bucketSize);
+			for(long bucket = Math.max(covered, fromSample) / finer.bucketSize; bucket < end; bucket++) {
+				if(filled == 0) {
+					min[0] = Double.POSITIVE_INFINITY;
+					max[0] = Double.NEGATIVE_INFINITY;
+					mean[0] = 0;
+					filled = 1;
+				}
+				int index = (int)(3 * bucket);
+				double lastSum = mean[filled - 1] * lastPointSamples + finerBuckets[index + 2];
+				lastPointSamples += finer.bucketSize;
+				min[filled - 1] = Math.min(min[filled - 1], finerBuckets[index]);
+				max[filled - 1] = Math.max(max[filled - 1], finerBuckets[index + 1]);
+				mean[filled - 1] = lastSum / lastPointSamples;
+			}
+			covered = Math.max(covered, end * finer.bucketSize);
+		}
+
+		//Then the raw samples that have not filled a level 0 bucket yet, thrown away if the appender moved on while reading
+		long samples = sampleCount;
+		long tailStart = samples / fanout * fanout;
+		if(points > 0 && covered < toSample && covered >= tailStart) {
+			double tailMin = Double.POSITIVE_INFINITY;
+			double tailMax = Double.NEGATIVE_INFINITY;
+			double tailSum = 0;
+			long tailEnd = Math.min(samples, toSample);
+			long tailFirst = Math.max(covered, fromSample);
+			for(long sample = tailFirst; sample < tailEnd; sample++) {
+				double value = tail[(int)(sample % fanout)];
+				tailMin = Math.min(tailMin, value);
+				tailMax = Math.max(tailMax, value);
+				tailSum += value;
+			}
+			VarHandle.acquireFence();
+			if(tailEnd > tailFirst && sampleCount / fanout == samples / fanout) {
+				if(filled == 0) {
+					min[0] = Double.POSITIVE_INFINITY;
+					max[0] = Double.NEGATIVE_INFINITY;
+					mean[0] = 0;
+					filled = 1;
+				}
+				min[filled - 1] = Math.min(min[filled - 1], tailMin);
+				max[filled - 1] = Math.max(max[filled - 1], tailMax);
+				mean[filled - 1] = (mean[filled - 1] * lastPointSamples + tailSum) / (lastPointSamples + tailEnd - tailFirst);
+			}
+		}
+		return filled;
+	}
+
+	public long getBucketSize(int level) { //Samples per bucket
+		return levels[level].bucketSize;
+	}
+
+	public int getBucketCount(int level) {
+		return levels[level].count;
+	}
+
+	//Builds the pyramid of a field of a finished telemetry file, streaming through it once
+	public static TelemetryPyramid build(TelemetryReader reader, TelemetryField field) {
+		TelemetryPyramid pyramid = new TelemetryPyramid();
+		double[] values = new double[reader.getBlockTicks()];
+		for(long tick = 0; tick < reader.getTickCount(); tick += values.length) {
+			int count = (int)Math.min(values.length, reader.getTickCount() - tick);
+			reader.read(field, tick, count, values, 0);
+			for(int i = 0; i < count; i++) {
+				pyramid.append(values[i]);
+			}
+		}
+		return pyramid;
+	}
+
+	//Getters
+	public long getSampleCount() {
+		return sampleCount;
+	}
+
+	public int getFanout() {
+		return fanout;
+	}
+
+	public int getLevelCount() {
+		return MAX_LEVELS;
+	}
+
+}
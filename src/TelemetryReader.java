@@ -0,0 +1,178 @@
+//***************************************************************
+// Class: TelemetryReader
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Random access to any range of ticks in a telemetry file written by TelemetryWriter
+//
+// Attributes:  -doubles: DoubleBuffer
+//				-fieldCount: int
+//				-blockTicks: int
+//				-tickCount: long
+//				-timeStep: double
+//
+// Methods: +read(TelemetryField, long, int, double[], int): void,
+//			+get(TelemetryField, long): double,
+//			+findTick(double): long,
+//			+main(String[]): void,
+//			-printZoomed(TelemetryReader, long, long, int): void
+//
+//**************************************************************
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+public class TelemetryReader {
+	
+	private final DoubleBuffer doubles; //The whole file after the header
+	private final int fieldCount;
+	private final int blockTicks;
+	private final long tickCount;
+	private final double timeStep;
+	
+	public TelemetryReader(File file) throws IOException {
+		try(FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) { //The mapping stays valid after the channel closes
+			if(channel.size() < TelemetryWriter.HEADER_BYTES) {
+				throw new IOException("'" + file.getName() + "' is not a telemetry file.");
+			}
+			if(channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("'" + file.getName() + "' is too large to map in one piece.");
+			}
+			MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			
+			if(mapped.getInt(0) != TelemetryWriter.MAGIC) {
+				throw new IOException("'" + file.getName() + "' is not a telemetry file.");
+			}
+			if(mapped.getInt(4) != TelemetryWriter.VERSION) {
+				throw new IOException("'" + file.getName() + "' has unsupported telemetry version " + mapped.getInt(4) + ".");
+			}
+			fieldCount = mapped.getInt(8);
+			blockTicks = mapped.getInt(12);
+			tickCount = mapped.getLong(16);
+			timeStep = mapped.getDouble(24);
+			
+			mapped.position(TelemetryWriter.HEADER_BYTES);
+			doubles = mapped.slice().asDoubleBuffer();
+		}
+	}
+
+	//Copies 'count' ticks of 'field' starting at 'fromTick' into 'values' starting at 'offset'
+	public void read(TelemetryField field, long fromTick, int count, double[] values, int offset) {
+		if(fromTick < 0 || count < 0 || fromTick + count > tickCount) {
+			throw new IndexOutOfBoundsException("Ticks " + fromTick + " to " + (fromTick + count) + " are outside of 0 to " + tickCount + ".");
+		}
+		long tick = fromTick;
+		int copied = 0;
+		while(copied < count) { //One contiguous copy per block the range touches
+			long block = tick / blockTicks;
+			int tickInBlock = (int)(tick % blockTicks);
+			int length = Math.min(count - copied, blockTicks - tickInBlock);
+			
+			int start = (int)(block * fieldCount * blockTicks + (long)field.ordinal() * blockTicks + tickInBlock);
+			doubles.get(start, values, offset + copied, length);
+			
+			copied += length;
+			tick += length;
+		}
+	}
+
+	public double get(TelemetryField field, long tick) {
+		if(tick < 0 || tick >= tickCount) {
+			throw new IndexOutOfBoundsException("Tick " + tick + " is outside of 0 to " + tickCount + ".");
+		}
+		return doubles.get((int)(tick / blockTicks * fieldCount * blockTicks + (long)field.ordinal() * blockTicks + tick % blockTicks));
+	}
+
+	public long findTick(double simulationTime) { //First tick at or after 'simulationTime', times only ever increase
+		long low = 0;
+		long high = tickCount;
+		while(low < high) {
+			long middle = (low + high) >>> 1;
+			if(get(TelemetryField.TIME, middle) < simulationTime) {
+				low = middle + 1;
+			}
+			else {
+				high = middle;
+			}
+		}
+		return low;
+	}
+
+	//Usage: TelemetryReader <telemetry file> [from time] [to time] [points]
+	//Prints every field of the ticks between the two simulation times as CSV, or with 'points' the min/max/mean
+	//of altitude, speed and fuel level squeezed into that many rows, the way a chart would zoom into the range
+	public static void main(String[] args) throws IOException {
+		TelemetryReader reader = new TelemetryReader(new File(args[0]));
+		long fromTick = args.length > 1 ? reader.findTick(Double.parseDouble(args[1])) : 0;
+		long toTick = args.length > 2 ? reader.findTick(Double.parseDouble(args[2])) : reader.getTickCount();
+		if(args.length > 3) {
+			printZoomed(reader, fromTick, toTick, Integer.parseInt(args[3]));
+			return;
+		}
+		
+		TelemetryField[] fields = TelemetryField.values();
+		StringBuilder line = new StringBuilder();
+		for(int i = 0; i < fields.length; i++) {
+			line.append(i == 0 ? "" : ",").append(fields[i]);
+		}
+		System.out.println(line);
+		
+		double[][] columns = new double[fields.length][1024];
+		for(long tick = fromTick; tick < toTick; tick += 1024) {
+			int count = (int)Math.min(1024, toTick - tick);
+			for(int i = 0; i < fields.length; i++) {
+				reader.read(fields[i], tick, count, columns[i], 0);
+			}
+			for(int j = 0; j < count; j++) {
+				line.setLength(0);
+				for(int i = 0; i < fields.length; i++) {
+					line.append(i == 0 ? "" : ",").append(columns[i][j]);
+				}
+				System.out.println(line);
+			}
+		}
+	}
+
+	private static void printZoomed(TelemetryReader reader, long fromTick, long toTick, int points) {
+		TelemetryField[] fields = {TelemetryField.ALTITUDE, TelemetryField.SPEED, TelemetryField.FUEL_LEVEL};
+		StringBuilder line = new StringBuilder();
+		for(int i = 0; i < fields.length; i++) {
+			line.append(i == 0 ? "" : ",").append(fields[i]).append("_MIN,").append(fields[i]).append("_MAX,").append(fields[i]).append("_MEAN");
+		}
+		System.out.println(line);
+		
+		double[][] min = new double[fields.length][points];
+		double[][] max = new double[fields.length][points];
+		double[][] mean = new double[fields.length][points];
+		int filled = points;
+		for(int i = 0; i < fields.length; i++) {
+			TelemetryPyramid pyramid = TelemetryPyramid.build(reader, fields[i]);
+			filled = Math.min(filled, pyramid.fetch(fromTick, toTick, points, min[i], max[i], mean[i])); //The same for every field
+		}
+		for(int j = 0; j < filled; j++) {
+			line.setLength(0);
+			for(int i = 0; i < fields.length; i++) {
+				line.append(i == 0 ? "" : ",").append(min[i][j]).append(',').append(max[i][j]).append(',').append(mean[i][j]);
+			}
+			System.out.println(line);
+		}
+	}
+
+	//Getters
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	public int getBlockTicks() {
+		return blockTicks;
+	}
+
+	public double getTimeStep() {
+		return timeStep;
+	}
+
+}
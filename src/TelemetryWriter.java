@@ -0,0 +1,272 @@
+//***************************************************************
+// Class: TelemetryWriter
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Streams flight telemetry to a memory-mapped columnar file without slowing down or allocating in the simulation
+//
+// Attributes:  -channel: FileChannel
+//				-header: MappedByteBuffer
+//				-blockTicks: int
+//				-current: TelemetryBlock
+//				-fullBlocks: BlockingQueue<TelemetryBlock>
+//				-freeBlocks: BlockingQueue<TelemetryBlock>
+//				-writerThread: Thread
+//				-tickCount: long
+//				-droppedSamples: long
+//				-lossless: boolean
+//				-closed: boolean
+//				-failed: boolean
+//
+// Methods: +onStep(GameManager): void,
+//			+onLanding(GameManager): void,
+//			+onControl(GameManager, ControlType, double): void,
+//			+record(GameManager): void,
+//			+close(): void,
+//			-takeFreeBlock(): TelemetryBlock,
+//			-writeBlocks(): void,
+//			-writeBlock(TelemetryBlock): void
+//
+//**************************************************************
+
+//File layout (see TelemetryReader for reading it back):
+//	Header (HEADER_BYTES): magic (int), version (int), field count (int), ticks per block (int), tick count (long), time step (double)
+//	Blocks: 'ticks per block' samples each, stored column by column (all TIME values, then all X_POSITION values, ...),
+//			so one field over a range of ticks is a single contiguous read. The last block is padded to full size.
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class TelemetryWriter implements SimulationObserver {
+	
+	public static final int MAGIC = 0x4C53544D; //"LSTM"
+	public static final int VERSION = 1;
+	public static final int HEADER_BYTES = 64;
+	public static final String EXTENSION = ".lst";
+	
+	private static final int FIELD_COUNT = TelemetryField.values().length;
+	
+	//One block of samples, filled by the simulation and written to the file by the writer thread
+	private static class TelemetryBlock {
+		private final double[] columns;
+		private long index = 0; //Which block of the file this is
+		private int count = 0;
+		private boolean last = false; //Tells the writer thread to stop after this block
+		
+		private TelemetryBlock(int blockTicks) {
+			columns = new double[FIELD_COUNT * blockTicks];
+		}
+	}
+
+	private final FileChannel channel;
+	private final MappedByteBuffer header;
+	private final int blockTicks;
+	
+	//Double buffered, the simulation fills one block while the writer thread copies the other one into the file
+	private TelemetryBlock current;
+	private final BlockingQueue<TelemetryBlock> fullBlocks = new ArrayBlockingQueue<>(2);
+	private final BlockingQueue<TelemetryBlock> freeBlocks = new ArrayBlockingQueue<>(2);
+	private final Thread writerThread;
+	
+	private long tickCount = 0;
+	private long droppedSamples = 0; //Samples that arrived while both blocks were waiting on the writer thread
+	private boolean lossless = false; //Wait for the writer thread instead of dropping samples, only for headless runs
+	
+	private boolean closed = false;
+	private volatile boolean failed = false; //Set by the writer thread once a block could not be written
+	
+	public TelemetryWriter(File file, double timeStep) throws IOException {
+		this(file, timeStep, 4096);
+	}
+
+	public TelemetryWriter(File file, double timeStep, int newBlockTicks) throws IOException {
+		blockTicks = newBlockTicks;
+		channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		
+		header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+		header.putInt(0, MAGIC);
+		header.putInt(4, VERSION);
+		header.putInt(8, FIELD_COUNT);
+		header.putInt(12, blockTicks);
+		header.putLong(16, 0);
+		header.putDouble(24, timeStep);
+		
+		current = new TelemetryBlock(blockTicks);
+		freeBlocks.add(new TelemetryBlock(blockTicks));
+		
+		writerThread = new Thread(this::writeBlocks, "Telemetry Writer");
+		writerThread.setDaemon(true);
+		writerThread.start();
+	}
+
+	@Override
+	public void onStep(GameManager gameManager) {
+		record(gameManager);
+	}
+
+	@Override
+	public void onLanding(GameManager gameManager) {
+	}
+
+	@Override
+	public void onControl(GameManager gameManager, ControlType type, double value) {
+	}
+
+	//Adds one sample of the current state, never waits on the file unless lossless
+	public void record(GameManager gameManager) {
+		if(closed) {
+			return;
+		}
+		if(current == null) {
+			current = lossless ? takeFreeBlock() : freeBlocks.poll();
+			if(current == null) { //The writer thread is still busy with both blocks, or has stopped
+				droppedSamples++;
+				return;
+			}
+			current.index = tickCount / blockTicks;
+			current.count = 0;
+		}
+
+		Rocket player = gameManager.getPlayer();
+		double[] columns = current.columns;
+		int tick = current.count;
+		columns[TelemetryField.TIME.ordinal() * blockTicks + tick] = gameManager.getSimulationTime();
+		columns[TelemetryField.X_POSITION.ordinal() * blockTicks + tick] = player.getXPosition();
+		columns[TelemetryField.Y_POSITION.ordinal() * blockTicks + tick] = player.getYPosition();
+		columns[TelemetryField.X_VELOCITY.ordinal() * blockTicks + tick] = player.getXVelocity();
+		columns[TelemetryField.Y_VELOCITY.ordinal() * blockTicks + tick] = player.getYVelocity();
+		columns[TelemetryField.SPEED.ordinal() * blockTicks + tick] = player.calculateSpeed();
+		columns[TelemetryField.ALTITUDE.ordinal() * blockTicks + tick] = player.calculateDistanceToSurfaceOfBody();
+		columns[TelemetryField.THRUST_PERCENT.ordinal() * blockTicks + tick] = player.getEngine().getThrustPercent();
+		columns[TelemetryField.FUEL_LEVEL.ordinal() * blockTicks + tick] = player.getFuselage().getFuelLevel();
+		columns[TelemetryField.ROTATION.ordinal() * blockTicks + tick] = player.getRotationAngleInDegrees();
+		current.count++;
+		tickCount++;
+		
+		if(current.count == blockTicks) {
+			fullBlocks.add(current); //Never more than two blocks exist, so there is always room
+			current = null;
+		}
+	}
+
+	//Writes out the last partial block and waits for the writer thread. Only call once the simulation has stopped.
+	public void close() {
+		if(closed) {
+			return;
+		}
+		closed = true;
+		
+		TelemetryBlock last = current;
+		if(last == null) {
+			last = takeFreeBlock(); //An empty block just to stop the writer thread
+		}
+		if(last != null) {
+			if(last != current) {
+				last.index = tickCount / blockTicks;
+				last.count = 0;
+			}
+			last.last = true;
+			fullBlocks.add(last);
+		}
+		
+		try {
+			writerThread.join(5000);
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		if(writerThread.isAlive()) {
+			System.out.println("Unable to finish writing telemetry, the writer thread did not stop.");
+			failed = true;
+		}
+
+		try {
+			if(!failed) { //Otherwise writeBlock already left the count at the last block that made it into the file
+				header.putLong(16, tickCount);
+			}
+			header.force();
+			channel.close();
+		} catch(IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private TelemetryBlock takeFreeBlock() { //Null if the writer thread is gone and will never free one
+		TelemetryBlock block = null;
+		try {
+			while(block == null && writerThread.isAlive()) {
+				block = freeBlocks.poll(100, TimeUnit.MILLISECONDS);
+			}
+			if(block == null) {
+				block = freeBlocks.poll(); //Freed just before the writer thread stopped
+			}
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		return block;
+	}
+
+	private void writeBlocks() { //Writer thread
+		boolean last = false;
+		while(!last) {
+			TelemetryBlock block;
+			try {
+				block = fullBlocks.take();
+			} catch(InterruptedException e) {
+				return;
+			}
+			last = block.last;
+			try {
+				if(block.count > 0 && !failed) { //Later blocks would leave a hole in the file, so stop writing after a failure
+					writeBlock(block);
+				}
+			} catch(IOException | RuntimeException | InternalError e) { //A full disk shows up as an InternalError when touching the mapping
+				failed = true;
+				System.out.println("Unable to write telemetry.");
+				e.printStackTrace();
+			} finally {
+				freeBlocks.add(block); //The simulation waits on this block in lossless mode and in close()
+			}
+		}
+	}
+
+	private void writeBlock(TelemetryBlock block) throws IOException {
+		long blockBytes = (long)FIELD_COUNT * blockTicks * Double.BYTES;
+		MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_WRITE, HEADER_BYTES + block.index * blockBytes, blockBytes);
+		DoubleBuffer doubles = mapped.asDoubleBuffer();
+		doubles.put(block.columns, 0, FIELD_COUNT * blockTicks); //Unused ticks of a partial block are never read
+		header.putLong(16, block.index * blockTicks + block.count); //Everything up to here can be read even if the program dies
+	}
+
+	//Getters
+	public long getTickCount() {
+		return tickCount;
+	}
+
+	public long getDroppedSamples() {
+		return droppedSamples;
+	}
+
+	public int getBlockTicks() {
+		return blockTicks;
+	}
+
+	public boolean isFailed() {
+		return failed;
+	}
+
+	public boolean isLossless() {
+		return lossless;
+	}
+
+	public void setLossless(boolean lossless) {
+		this.lossless = lossless;
+	}
+
+}
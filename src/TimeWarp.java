@@ -0,0 +1,23 @@
+//***************************************************************
+// Class: TimeWarp
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: How many physics steps run for every rendered frame
+//
+// Attributes:  +stepsPerFrame: int
+//
+//**************************************************************
+
+public enum TimeWarp {
+	X1(1),
+	X10(10),
+	X100(100),
+	MAX(Integer.MAX_VALUE); //As many steps as fit in the step budget
+	
+	public final int stepsPerFrame;
+	
+	TimeWarp(int newStepsPerFrame) {
+		stepsPerFrame = newStepsPerFrame;
+	}
+}
@@ -0,0 +1,69 @@
+//***************************************************************
+// Class: VelocityVerletIntegrator
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Symplectic second order step, keeps orbits from drifting during long coasts
+//
+// Attributes:  -forceEvaluations: long
+//				-thrust: double[]
+//				-gravity: double[]
+//				-nextGravity: double[]
+//				-gravityX: double
+//				-gravityY: double
+//
+// Methods: +integrate(Rocket, double): void,
+//			+getForceEvaluations(): long
+//
+//**************************************************************
+
+public class VelocityVerletIntegrator implements Integrator {
+	
+	private static final double[] NO_THRUST = new double[2];
+	
+	private long forceEvaluations = 0;
+	
+	private final double[] thrust = new double[2];
+	private final double[] gravity = new double[2];
+	private final double[] nextGravity = new double[2];
+	
+	//Position 'gravity' was last evaluated at, so the end of one step is reused as the start of the next
+	private double gravityX = Double.NaN;
+	private double gravityY = Double.NaN;
+	
+	@Override
+	public void integrate(Rocket rocket, double timeStep) {
+		double x = rocket.getXPosition();
+		double y = rocket.getYPosition();
+		
+		if(x != gravityX || y != gravityY) { //Rocket was moved by something else (reset, collision, etc.)
+			rocket.calculateAcceleration(x, y, NO_THRUST, gravity);
+			forceEvaluations++;
+		}
+		rocket.calculateThrustAcceleration(timeStep, thrust);
+		
+		double xAcceleration = gravity[0] + thrust[0];
+		double yAcceleration = gravity[1] + thrust[1];
+		x += (rocket.getXVelocity() + xAcceleration * timeStep / 2) * timeStep;
+		y += (rocket.getYVelocity() + yAcceleration * timeStep / 2) * timeStep;
+		
+		rocket.calculateAcceleration(x, y, NO_THRUST, nextGravity);
+		forceEvaluations++;
+		
+		rocket.setXPosition(x);
+		rocket.setYPosition(y);
+		rocket.setXVelocity(rocket.getXVelocity() + (xAcceleration + nextGravity[0] + thrust[0]) * timeStep / 2);
+		rocket.setYVelocity(rocket.getYVelocity() + (yAcceleration + nextGravity[1] + thrust[1]) * timeStep / 2);
+		
+		gravity[0] = nextGravity[0];
+		gravity[1] = nextGravity[1];
+		gravityX = x;
+		gravityY = y;
+	}
+	
+	@Override
+	public long getForceEvaluations() {
+		return forceEvaluations;
+	}
+	
+}
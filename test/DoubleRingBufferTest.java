@@ -0,0 +1,57 @@
+//***************************************************************
+// Class: DoubleRingBufferTest
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Checks that DoubleRingBuffer keeps the newest values in order and overwrites the oldest once full
+//
+//**************************************************************
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class DoubleRingBufferTest {
+	
+	@Test
+	public void keepsValuesInOrderUntilFull() {
+		DoubleRingBuffer buffer = new DoubleRingBuffer(4);
+		assertEquals(0, buffer.getSize());
+		buffer.add(1);
+		buffer.add(2);
+		buffer.add(3);
+		assertEquals(3, buffer.getSize());
+		assertEquals(1, buffer.get(0));
+		assertEquals(3, buffer.get(2));
+		assertEquals(3, buffer.getLast());
+	}
+
+	@Test
+	public void overwritesTheOldestOnceFull() {
+		DoubleRingBuffer buffer = new DoubleRingBuffer(4);
+		for(int i = 0; i < 11; i++) {
+			buffer.add(i);
+		}
+		assertEquals(4, buffer.getSize());
+		assertEquals(4, buffer.getCapacity());
+		for(int i = 0; i < 4; i++) {
+			assertEquals(7 + i, buffer.get(i));
+		}
+		assertEquals(10, buffer.getLast());
+	}
+
+	@Test
+	public void clearStartsOver() {
+		DoubleRingBuffer buffer = new DoubleRingBuffer(3);
+		for(int i = 0; i < 5; i++) {
+			buffer.add(i);
+		}
+		buffer.clear();
+		assertEquals(0, buffer.getSize());
+		buffer.add(42);
+		buffer.add(43);
+		assertEquals(42, buffer.get(0));
+		assertEquals(43, buffer.getLast());
+	}
+
+}
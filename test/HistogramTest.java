@@ -0,0 +1,88 @@
+//***************************************************************
+// Class: HistogramTest
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Checks Histogram percentiles against the exact values, and that copies and resets are independent
+//
+//**************************************************************
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+	
+	@Test
+	public void smallValuesAreExact() {
+		Histogram histogram = new Histogram("ns");
+		for(int i = 1; i <= 10; i++) {
+			histogram.record(i);
+		}
+		assertEquals(5, histogram.getPercentile(50));
+		assertEquals(9, histogram.getPercentile(90));
+		assertEquals(10, histogram.getPercentile(100));
+		assertEquals(1, histogram.getPercentile(0));
+		assertEquals(5.5, histogram.getMean());
+		assertEquals(1, histogram.getMin());
+		assertEquals(10, histogram.getMax());
+	}
+
+	@Test
+	public void percentilesAreWithinTheBucketError() {
+		Random random = new Random(42);
+		long[] values = new long[100000];
+		Histogram histogram = new Histogram("ns");
+		for(int i = 0; i < values.length; i++) {
+			values[i] = (long)Math.exp(random.nextDouble() * 25); //Up to about 7e10, spread over many powers of two
+			histogram.record(values[i]);
+		}
+		Arrays.sort(values);
+		
+		for(double percentile : new double[] {0, 1, 10, 50, 90, 99, 99.9, 100}) {
+			long exact = values[(int)Math.max(1, Math.ceil(percentile / 100 * values.length)) - 1];
+			long estimate = histogram.getPercentile(percentile);
+			assertEquals(exact, estimate, Math.max(1, exact * 0.0625), "p" + percentile);
+		}
+		assertEquals(values[values.length - 1], histogram.getMax());
+		assertEquals(values.length, histogram.getCount());
+	}
+
+	@Test
+	public void negativeValuesCountAsZero() {
+		Histogram histogram = new Histogram("ns");
+		histogram.record(-5);
+		assertEquals(0, histogram.getMin());
+		assertEquals(0, histogram.getPercentile(50));
+	}
+
+	@Test
+	public void copyIsIndependent() {
+		Histogram histogram = new Histogram("ns");
+		histogram.record(100);
+		histogram.record(200);
+		Histogram copy = histogram.copy();
+		histogram.reset();
+		histogram.record(5);
+		
+		assertEquals("ns", copy.getUnit());
+		assertEquals(2, copy.getCount());
+		assertEquals(150, copy.getMean());
+		assertEquals(200, copy.getMax());
+		assertEquals(1, histogram.getCount());
+		assertEquals(5, histogram.getMax());
+	}
+
+	@Test
+	public void emptyHistogramReportsZero() {
+		Histogram histogram = new Histogram("ns");
+		assertEquals(0, histogram.getPercentile(50));
+		assertEquals(0, histogram.getMean());
+		assertEquals(0, histogram.getMin());
+		assertEquals(0, histogram.getMax());
+	}
+
+}
@@ -0,0 +1,91 @@
+//***************************************************************
+// Class: KeplerPropagatorTest
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Checks the analytic coast against numeric integration, whole orbits and a propagation that can't converge
+//
+//**************************************************************
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class KeplerPropagatorTest {
+	
+	private static final double MU = 4.9048695e12; //Moon
+	
+	//100 km up and a little slower than a circular orbit, so the path is an ellipse
+	private static double[] createState() {
+		return new double[] {0, 1737400 + 100000, -1500, 0};
+	}
+
+	private static double calculatePeriod(double[] state) {
+		double distance = Math.sqrt(state[0] * state[0] + state[1] * state[1]);
+		double semiMajorAxis = 1 / (2 / distance - (state[2] * state[2] + state[3] * state[3]) / MU);
+		return 2 * Math.PI * Math.sqrt(semiMajorAxis * semiMajorAxis * semiMajorAxis / MU);
+	}
+
+	@Test
+	public void wholeOrbitsAreReducedAway() {
+		double[] start = createState();
+		double period = calculatePeriod(start);
+		
+		double[] state = createState();
+		assertTrue(KeplerPropagator.propagate(MU, state, 1000 * period));
+		assertArrayEquals(start, state, 1e-3);
+		
+		double[] reduced = createState();
+		assertTrue(KeplerPropagator.propagate(MU, reduced, 1234.5));
+		state = createState();
+		assertTrue(KeplerPropagator.propagate(MU, state, 1234.5 + 1000 * period));
+		assertArrayEquals(reduced, state, 1e-3);
+	}
+
+	@Test
+	public void agreesWithNumericIntegration() {
+		double[] expected = createState();
+		double timeStep = 0.01;
+		for(int i = 0; i < 60000; i++) {
+			stepRungeKutta(expected, timeStep);
+		}
+
+		double[] state = createState();
+		assertTrue(KeplerPropagator.propagate(MU, state, 600));
+		assertArrayEquals(expected, state, 1e-4);
+	}
+
+	@Test
+	public void failureLeavesTheStateAlone() {
+		double[] state = createState();
+		assertFalse(KeplerPropagator.propagate(MU, state, Double.NaN));
+		assertArrayEquals(createState(), state, 0);
+	}
+
+	private static void stepRungeKutta(double[] state, double timeStep) {
+		double[] k1 = derivative(state);
+		double[] k2 = derivative(offset(state, k1, timeStep / 2));
+		double[] k3 = derivative(offset(state, k2, timeStep / 2));
+		double[] k4 = derivative(offset(state, k3, timeStep));
+		for(int i = 0; i < state.length; i++) {
+			state[i] += timeStep / 6 * (k1[i] + 2 * k2[i] + 2 * k3[i] + k4[i]);
+		}
+	}
+
+	private static double[] offset(double[] state, double[] derivative, double time) {
+		double[] result = new double[state.length];
+		for(int i = 0; i < state.length; i++) {
+			result[i] = state[i] + derivative[i] * time;
+		}
+		return result;
+	}
+
+	private static double[] derivative(double[] state) {
+		double distance = Math.sqrt(state[0] * state[0] + state[1] * state[1]);
+		double acceleration = -MU / (distance * distance * distance);
+		return new double[] {state[2], state[3], acceleration * state[0], acceleration * state[1]};
+	}
+
+}
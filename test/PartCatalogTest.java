@@ -0,0 +1,113 @@
+//***************************************************************
+// Class: PartCatalogTest
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Checks that Parts.cache is reused while Parts.csv is unchanged, rebuilt when it isn't, and that bad lines are reported
+//
+//**************************************************************
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PartCatalogTest {
+	
+	@TempDir
+	Path directory;
+	
+	private static byte[] readBundledSource() throws IOException {
+		try(InputStream in = PartCatalog.class.getResourceAsStream("/Parts.csv")) {
+			return in.readAllBytes();
+		}
+	}
+
+	private static void assertSameParts(PartCatalog expected, PartCatalog actual) {
+		List<PartDefinition> expectedParts = expected.getParts();
+		List<PartDefinition> actualParts = actual.getParts();
+		assertEquals(expectedParts.size(), actualParts.size());
+		for(int i = 0; i < expectedParts.size(); i++) {
+			PartDefinition part = expectedParts.get(i);
+			PartDefinition other = actualParts.get(i);
+			assertEquals(part.getType(), other.getType());
+			assertEquals(part.getId(), other.getId());
+			assertEquals(part.getName(), other.getName());
+			assertEquals(part.getMass(), other.getMass());
+			assertEquals(part.getWidth(), other.getWidth());
+			assertEquals(part.getHeight(), other.getHeight());
+			assertEquals(part.getColor(), other.getColor());
+			assertArrayEquals(part.getStats(), other.getStats());
+		}
+	}
+
+	@Test
+	public void warmLoadReadsTheCacheBack() throws IOException {
+		byte[] source = readBundledSource();
+		File cache = directory.resolve("Parts.cache").toFile();
+		PartCatalog cold = PartCatalog.load(source, cache);
+		assertTrue(cache.isFile());
+		
+		byte[] cacheBytes = Files.readAllBytes(cache.toPath());
+		assertTrue(cache.setLastModified(0));
+		PartCatalog warm = PartCatalog.load(source, cache);
+		assertEquals(0, cache.lastModified()); //Not rewritten
+		assertArrayEquals(cacheBytes, Files.readAllBytes(cache.toPath()));
+		assertSameParts(cold, warm);
+		assertSameParts(PartCatalog.parse(source), warm);
+	}
+
+	@Test
+	public void editedSourceRebuildsTheCache() throws IOException {
+		byte[] source = readBundledSource();
+		File cache = directory.resolve("Parts.cache").toFile();
+		PartCatalog.load(source, cache);
+		
+		String text = new String(source, StandardCharsets.UTF_8);
+		byte[] edited = text.replace("mk1-command-pod,Mk1 Command Pod,860,", "mk1-command-pod,Mk1 Command Pod,861,").getBytes(StandardCharsets.UTF_8);
+		PartCatalog catalog = PartCatalog.load(edited, cache);
+		assertEquals(861, catalog.get("mk1-command-pod").getMass());
+		assertEquals(861, PartCatalog.load(edited, cache).get("mk1-command-pod").getMass()); //From the rebuilt cache
+	}
+
+	@Test
+	public void damagedCacheIsRebuilt() throws IOException {
+		byte[] source = readBundledSource();
+		File cache = directory.resolve("Parts.cache").toFile();
+		PartCatalog.load(source, cache);
+		try(RandomAccessFile out = new RandomAccessFile(cache, "rw")) {
+			out.setLength(out.length() / 2);
+		}
+		
+		assertSameParts(PartCatalog.parse(source), PartCatalog.load(source, cache));
+		assertSameParts(PartCatalog.parse(source), PartCatalog.load(source, cache));
+	}
+
+	@Test
+	public void badLinesAreReportedWithTheirNumber() {
+		byte[] source = ("# comment\n"
+				+ "command,pod,Pod,860,12.5,12.5,DARKGRAY,100\n"
+				+ "engine,rocket,Rocket,100,1,1,RED,1000\n").getBytes(StandardCharsets.UTF_8);
+		IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> PartCatalog.parse(source));
+		assertTrue(e.getMessage().contains("line 3"), e.getMessage());
+		
+		byte[] numericId = "command,7,Pod,860,12.5,12.5,DARKGRAY,100\n".getBytes(StandardCharsets.UTF_8);
+		assertThrows(IllegalArgumentException.class, () -> PartCatalog.parse(numericId));
+		byte[] duplicateId = ("command,pod,Pod,860,12.5,12.5,DARKGRAY,100\n"
+				+ "command,pod,Pod,860,12.5,12.5,DARKGRAY,100\n").getBytes(StandardCharsets.UTF_8);
+		assertThrows(IllegalArgumentException.class, () -> PartCatalog.parse(duplicateId));
+	}
+
+}
@@ -0,0 +1,101 @@
+//***************************************************************
+// Class: ReplayTest
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Records a scripted run to a replay file and checks that replaying it lands in exactly the same state
+//
+//**************************************************************
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ReplayTest {
+	
+	private static final double TIME_STEP = 1 / 60.0;
+	
+	@TempDir
+	Path directory;
+	
+	//FL-T400 with the last engine of the catalog, so the recorded ids aren't all the first of their kind
+	private static GameManager createGameManager() {
+		GameManager gameManager = new GameManager(TIME_STEP);
+		gameManager.setAnalyticCoast(true);
+		Rocket rocket = gameManager.getPlayer();
+		rocket.setCurrentBody(BodyCatalog.createBodies().get(0));
+		rocket.setIntegrator(new RungeKutta4Integrator());
+		rocket.setCommandModule(PartCatalog.createCommandModules().get(0));
+		rocket.setFuselage(PartCatalog.createFuselages().get(0));
+		List<Engine> engines = PartCatalog.createEngines();
+		rocket.setEngine(engines.get(engines.size() - 1));
+		rocket.setStartingAltitude(5000);
+		gameManager.resetMathModel();
+		return gameManager;
+	}
+
+	//Burns retrograde to leave orbit, then throttles and turns with repeated and negated values so every kind of record is written
+	private static File record(File file) throws IOException {
+		GameManager gameManager = createGameManager();
+		PartCatalog catalog = PartCatalog.getDefault();
+		List<PartDefinition> engines = catalog.getEngines();
+		ReplayRecorder recorder = new ReplayRecorder(file, gameManager, catalog.getCommandModules().get(0).getId(),
+				catalog.getFuselages().get(0).getId(), engines.get(engines.size() - 1).getId());
+		gameManager.addObserver(recorder);
+		
+		gameManager.submitControl(ControlType.ACTIVATE, 0);
+		gameManager.submitControl(ControlType.THROTTLE, 1);
+		gameManager.simulate(1800, Long.MAX_VALUE);
+		double[] throttles = {-0.5, 0.1, -0.1, -0.1, 0.1};
+		double[] rotations = {30, 30, -30, 45, -45, -45};
+		for(int i = 0; i < 12; i++) {
+			gameManager.submitControl(ControlType.THROTTLE, throttles[i % throttles.length]);
+			gameManager.submitControl(ControlType.ROTATE, rotations[i % rotations.length]);
+			gameManager.simulate(1 + i * 37, Long.MAX_VALUE);
+		}
+		gameManager.submitControl(ControlType.DEACTIVATE, 0);
+		for(int i = 0; !gameManager.hasLanded() && i < 100; i++) {
+			gameManager.simulate(10000, Long.MAX_VALUE);
+		}
+		assertTrue(gameManager.hasLanded());
+		recorder.close();
+		return file;
+	}
+
+	@Test
+	public void replayMatchesTheRecordedRun() throws IOException {
+		ReplayPlayer player = new ReplayPlayer(record(directory.resolve("run" + ReplayRecorder.EXTENSION).toFile()));
+		assertEquals(TIME_STEP, player.getTimeStep());
+		assertEquals(IntegratorType.RUNGE_KUTTA_4, player.getIntegratorType());
+		assertTrue(player.isAnalyticCoast());
+		PartCatalog catalog = PartCatalog.getDefault();
+		assertEquals(catalog.getCommandModules().get(0), player.getCommandModule());
+		assertEquals(catalog.getFuselages().get(0), player.getFuselage());
+		assertEquals(catalog.getEngines().get(catalog.getEngines().size() - 1), player.getEngine());
+		assertEquals(5000, player.getStartingAltitude());
+		
+		GameManager replayed = player.play();
+		assertTrue(replayed.hasLanded());
+		assertTrue(player.matchesRecording(replayed));
+	}
+
+	@Test
+	public void rejectsOlderVersions() throws IOException {
+		File file = record(directory.resolve("old" + ReplayRecorder.EXTENSION).toFile());
+		try(RandomAccessFile out = new RandomAccessFile(file, "rw")) {
+			out.seek(Integer.BYTES);
+			out.write(1);
+		}
+		assertThrows(IOException.class, () -> new ReplayPlayer(file));
+	}
+
+}
@@ -0,0 +1,147 @@
+//***************************************************************
+// Class: RocketDesignStoreTest
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Checks that saved rockets survive a crash through the journal, and that failed writes are reported
+//
+//**************************************************************
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RocketDesignStoreTest {
+	
+	@TempDir
+	Path directory;
+	
+	private static RocketDesign createDesign(String name) {
+		return new RocketDesign(name, "mk1-command-pod", "fl-t400", "lv-909-terrier");
+	}
+
+	//Copies the files as they are on disk right now, like a crash would leave them
+	private File crash(RocketDesignStore store, String name) throws IOException {
+		File copy = directory.resolve(name).toFile();
+		Files.copy(store.getFile().toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		Files.copy(store.getJournalFile().toPath(), new File(copy.getPath() + ".journal").toPath(), StandardCopyOption.REPLACE_EXISTING);
+		return copy;
+	}
+
+	@Test
+	public void journalIsReplayedAfterACrash() throws IOException {
+		RocketDesignStore store = new RocketDesignStore(directory.resolve("SavedRockets.txt").toFile());
+		store.load();
+		store.save(createDesign("Alpha"));
+		store.save(createDesign("Bravo"));
+		store.save(createDesign("Charlie"));
+		store.delete(createDesign("Bravo"));
+		store.save(createDesign("Alpha")); //Already saved, not journaled again
+		store.sync();
+		assertEquals("", Files.readString(store.getFile().toPath())); //Only the journal has them so far
+		
+		RocketDesignStore recovered = new RocketDesignStore(crash(store, "Crashed.txt"));
+		store.close();
+		recovered.load();
+		assertEquals(List.of(createDesign("Alpha"), createDesign("Charlie")), recovered.getDesigns());
+		recovered.close();
+		
+		//Loading a replayed journal checkpoints it, so the snapshot alone now has them
+		assertEquals(0, recovered.getJournalFile().length());
+		RocketDesignStore reloaded = new RocketDesignStore(recovered.getFile());
+		reloaded.load();
+		assertEquals(List.of(createDesign("Alpha"), createDesign("Charlie")), reloaded.getDesigns());
+		reloaded.close();
+	}
+
+	@Test
+	public void tornLastLineIsIgnored() throws IOException {
+		RocketDesignStore store = new RocketDesignStore(directory.resolve("SavedRockets.txt").toFile());
+		store.load();
+		store.save(createDesign("Alpha"));
+		store.sync();
+		File crashed = crash(store, "Crashed.txt");
+		store.close();
+		Files.write(new File(crashed.getPath() + ".journal").toPath(), "Bravo,mk1-command-pod,fl-t4".getBytes(StandardCharsets.UTF_8),
+				StandardOpenOption.APPEND);
+		
+		RocketDesignStore recovered = new RocketDesignStore(crashed);
+		recovered.load();
+		assertEquals(List.of(createDesign("Alpha")), recovered.getDesigns());
+		recovered.close();
+	}
+
+	@Test
+	public void pagingResumesAfterADeletedDesign() {
+		RocketDesignStore store = new RocketDesignStore(directory.resolve("SavedRockets.txt").toFile());
+		store.load();
+		String[] engines = {"lv-909-terrier", "lv-t91-cheetah", "re-l10-poodle", "f3s0-shrimp", "rt-10-hammer"};
+		for(String engine : engines) { //Same name, so they all share one bucket of the index
+			store.save(new RocketDesign("Lander", "mk1-command-pod", "fl-t400", engine));
+		}
+		store.save(createDesign("Lander Mk2"));
+		store.save(createDesign("Orbiter"));
+		
+		RocketDesignCursor cursor = new RocketDesignCursor(store, "land");
+		List<RocketDesign> first = cursor.next(2);
+		assertEquals(2, first.size());
+		store.delete(first.get(1));
+		List<RocketDesign> rest = cursor.next(10);
+		assertTrue(cursor.isExhausted());
+		
+		assertEquals(4, rest.size()); //Three Landers left after the page, then Lander Mk2, nothing repeated
+		for(RocketDesign design : rest) {
+			assertFalse(first.contains(design));
+		}
+		assertEquals(createDesign("Lander Mk2"), rest.get(rest.size() - 1));
+		store.close();
+	}
+
+	@Test
+	public void writesBeforeLoadOrAfterCloseThrow() {
+		RocketDesignStore store = new RocketDesignStore(directory.resolve("SavedRockets.txt").toFile());
+		assertThrows(IllegalStateException.class, () -> store.save(createDesign("Alpha")));
+		store.load();
+		store.close();
+		assertThrows(IllegalStateException.class, () -> store.delete(createDesign("Alpha")));
+		assertFalse(store.contains(createDesign("Alpha")));
+	}
+
+	@Test
+	public void failedJournalWriteIsReported() throws IOException, InterruptedException {
+		File file = directory.resolve("SavedRockets.txt").toFile();
+		assertTrue(file.createNewFile());
+		assertTrue(new File(file.getPath() + ".journal").mkdir()); //Can't be opened as a file
+		
+		RocketDesignStore store = new RocketDesignStore(file);
+		store.load();
+		store.save(createDesign("Alpha"));
+		assertThrows(UncheckedIOException.class, store::sync);
+		assertTrue(store.contains(createDesign("Alpha")));
+		store.close();
+		
+		PersistenceService persistence = new PersistenceService(new RocketDesignStore(file), Runnable::run);
+		persistence.load();
+		CompletableFuture<Boolean> saved = persistence.save(createDesign("Bravo"));
+		ExecutionException e = assertThrows(ExecutionException.class, saved::get);
+		assertTrue(e.getCause() instanceof UncheckedIOException);
+		persistence.close();
+	}
+
+}
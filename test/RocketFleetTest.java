@@ -0,0 +1,107 @@
+//***************************************************************
+// Class: RocketFleetTest
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Checks that RocketFleet flies and lands its rockets like Rocket does, with and without the vector kernel
+//
+//**************************************************************
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class RocketFleetTest {
+	
+	private static final double TIME_STEP = 1 / 60.0;
+	private static final int MAX_STEPS = 200000;
+	
+	//Mk1 pod, FL-T400 and Terrier on the Moon, 'altitude' meters up and moving sideways at 'speed'
+	private static Rocket createRocket(double altitude, double speed, double queuedRotation) {
+		Rocket rocket = new Rocket();
+		rocket.setCurrentBody(BodyCatalog.createBodies().get(0));
+		rocket.setCommandModule(PartCatalog.createCommandModules().get(0));
+		rocket.setFuselage(PartCatalog.createFuselages().get(0));
+		rocket.setEngine(PartCatalog.createEngines().get(3));
+		rocket.setXPosition(0);
+		rocket.setYPosition(rocket.getCurrentBody().getRadius() + altitude);
+		rocket.setXVelocity(-speed);
+		rocket.setYVelocity(0);
+		rocket.setQueuedRotationAngleInDegrees(queuedRotation);
+		rocket.updateRotation();
+		return rocket;
+	}
+
+	@Test
+	public void landsOnTheSameStepAsRocket() {
+		Rocket rocket = createRocket(3000, 400, 90);
+		RocketFleet fleet = new RocketFleet(1, rocket.getCurrentBody());
+		fleet.setVectorized(false);
+		fleet.add(rocket);
+		
+		int rocketSteps = 0;
+		while(!rocket.hasCollidedWithSurface() && rocketSteps < MAX_STEPS) {
+			rocket.updatePosition(TIME_STEP);
+			rocket.updateRotation();
+			rocketSteps++;
+		}
+		int fleetSteps = 0;
+		while(!fleet.getLanded()[0] && fleetSteps < MAX_STEPS) {
+			fleet.step(TIME_STEP);
+			fleetSteps++;
+		}
+		
+		assertTrue(rocketSteps < MAX_STEPS, "The rocket never landed");
+		assertEquals(rocketSteps, fleetSteps);
+		assertEquals(rocket.getXPosition(), fleet.getXPositions()[0]); //A coast is the exact same math
+		assertEquals(rocket.getYPosition(), fleet.getYPositions()[0]);
+	}
+
+	@Test
+	public void landsWhenTheHullTouchesNotTheCenter() {
+		Rocket rocket = createRocket(3000, 400, 90);
+		RocketFleet fleet = new RocketFleet(1, rocket.getCurrentBody());
+		fleet.setVectorized(false);
+		fleet.add(rocket);
+		
+		while(!fleet.getLanded()[0]) {
+			fleet.step(TIME_STEP);
+		}
+		assertTrue(fleet.calculateDistanceToSurfaceOfBody(0) > 0, "The center should still be above the surface when the hull lands");
+	}
+
+	@Test
+	public void vectorKernelMatchesScalarLoop() {
+		assumeTrue(RocketFleet.isVectorKernelAvailable(), "Needs --add-modules jdk.incubator.vector");
+		
+		int count = 37; //Not a multiple of any vector length, so the scalar tail runs too
+		Body body = BodyCatalog.createBodies().get(0);
+		RocketFleet scalar = new RocketFleet(count, body);
+		RocketFleet vector = new RocketFleet(count, body);
+		scalar.setVectorized(false);
+		for(int i = 0; i < count; i++) {
+			Rocket rocket = createRocket(1000 + i * 150, 300 + i * 20, 45 + i * 7);
+			if(i % 3 != 0) {
+				rocket.getEngine().activate();
+			}
+			scalar.add(rocket);
+			vector.add(rocket);
+		}
+		assertTrue(vector.isVectorized());
+		
+		for(int step = 0; step < 20000; step++) {
+			scalar.step(TIME_STEP);
+			vector.step(TIME_STEP);
+		}
+		assertArrayEquals(scalar.getLanded(), vector.getLanded());
+		for(int i = 0; i < count; i++) {
+			assertEquals(scalar.getXPositions()[i], vector.getXPositions()[i], 1e-6 * Math.abs(scalar.getXPositions()[i]) + 1e-6);
+			assertEquals(scalar.getYPositions()[i], vector.getYPositions()[i], 1e-6 * Math.abs(scalar.getYPositions()[i]) + 1e-6);
+			assertEquals(scalar.getFuelLevels()[i], vector.getFuelLevels()[i], 1e-9);
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+//***************************************************************
+// Class: RocketTrajectoryTest
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Pins the touchdown of a scripted landing so changes to the physics can't move it unnoticed
+//
+//**************************************************************
+
+//The expected values are what the game produced when the test was written. If a change to the physics is meant to move the
+//touchdown, rerun the flight and update them in the same commit, and say why in its message.
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class RocketTrajectoryTest {
+	
+	private static final double TIME_STEP = 1 / 60.0;
+	
+	//Mk1 pod, FL-T400 and Terrier, 5 km above the Moon in a circular orbit, stepped without analytic coasting
+	private static GameManager createGameManager() {
+		GameManager gameManager = new GameManager(TIME_STEP);
+		gameManager.setAnalyticCoast(false);
+		Rocket rocket = gameManager.getPlayer();
+		rocket.setCurrentBody(BodyCatalog.createBodies().get(0));
+		rocket.setIntegrator(new SemiImplicitEulerIntegrator());
+		rocket.setCommandModule(PartCatalog.createCommandModules().get(0));
+		rocket.setFuselage(PartCatalog.createFuselages().get(0));
+		rocket.setEngine(PartCatalog.createEngines().get(3));
+		rocket.setStartingAltitude(5000);
+		gameManager.resetMathModel();
+		return gameManager;
+	}
+
+	@Test
+	public void scriptedLandingTouchesDownWherePinned() {
+		GameManager gameManager = createGameManager();
+		Rocket rocket = gameManager.getPlayer();
+		//Coast 10 s, full retrograde burn for 30 s, pitch up at 60% for 30 s, then coast down
+		ControlSchedule schedule = new ControlSchedule(new double[] {0, 10, 40, 70}, new double[] {0, 1, 0.6, 0}, new double[] {0, 0, 90, 90});
+		
+		while(!gameManager.hasLanded() && gameManager.getSimulationTime() < 3600) {
+			schedule.apply(rocket, gameManager.getSimulationTime(), TIME_STEP);
+			gameManager.simulate();
+		}
+		
+		assertTrue(gameManager.hasLanded());
+		assertEquals(44294, gameManager.getStepCount());
+		assertEquals(738.2185785681537, gameManager.getSimulationTime(), 1e-6);
+		assertEquals(-816842.7103894049, rocket.getXPosition(), 1e-3);
+		assertEquals(1533422.3976034909, rocket.getYPosition(), 1e-3);
+		assertEquals(-904.5518022434884, rocket.getXVelocity(), 1e-6);
+		assertEquals(-803.5352922270856, rocket.getYVelocity(), 1e-6);
+		assertEquals(118.04389630110478, rocket.getRotationAngleInDegrees(), 1e-6);
+		assertEquals(807.9333333333033, rocket.getFuselage().getFuelLevel(), 1e-6);
+	}
+
+	@Test
+	public void fuelDrainsOncePerStep() {
+		GameManager gameManager = createGameManager();
+		Rocket rocket = gameManager.getPlayer();
+		Fuselage fuselage = rocket.getFuselage();
+		rocket.getEngine().activate();
+		
+		for(int i = 0; i < 600; i++) {
+			gameManager.simulate();
+		}
+		assertEquals(fuselage.getMaxFuelLevel() - fuselage.getDepletionRate() * TIME_STEP * 600, fuselage.getFuelLevel(), 1e-9);
+	}
+
+}
@@ -0,0 +1,150 @@
+//***************************************************************
+// Class: TelemetryPyramidTest
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Checks TelemetryPyramid.fetch against a plain scan of the samples over random ranges and point counts
+//
+//**************************************************************
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class TelemetryPyramidTest {
+
+	private static final int RANGES = 2000;
+
+	//Fills the pyramid with random samples and returns them
+	private static double[] fill(TelemetryPyramid pyramid, int sampleCount, Random random) {
+		double[] samples = new double[sampleCount];
+		for(int i = 0; i < sampleCount; i++) {
+			samples[i] = random.nextGaussian() * 100 + i * 0.01;
+			pyramid.append(samples[i]);
+		}
+		return samples;
+	}
+
+	//Samples in whole buckets of 'bucketSize' that every level at or below 'levelIndex' has finished
+	private static long finished(TelemetryPyramid pyramid, int levelIndex) {
+		return pyramid.getSampleCount() / pyramid.getBucketSize(levelIndex) * pyramid.getBucketSize(levelIndex);
+	}
+
+	//Start of the range a fetch covers: 'fromSample' rounded down to the coarsest finished bucket holding it, if any
+	private static long coveredFrom(TelemetryPyramid pyramid, int levelIndex, long fromSample) {
+		for(int i = levelIndex; i >= 0; i--) {
+			long bucketSize = pyramid.getBucketSize(i);
+			if(finished(pyramid, i) > fromSample) {
+				return fromSample / bucketSize * bucketSize;
+			}
+		}
+		return fromSample;
+	}
+
+	//End of the range a fetch covers: 'toSample' rounded up to the coarsest finished bucket holding it, if any
+	private static long coveredTo(TelemetryPyramid pyramid, int levelIndex, long toSample) {
+		for(int i = levelIndex; i >= 0; i--) {
+			long bucketSize = pyramid.getBucketSize(i);
+			if(finished(pyramid, i) >= toSample) {
+				return (toSample + bucketSize - 1) / bucketSize * bucketSize;
+			}
+		}
+		return Math.min(pyramid.getSampleCount(), toSample);
+	}
+
+	//Fetches the range and compares every point with a scan over the samples that point covers
+	private static void check(TelemetryPyramid pyramid, double[] samples, long fromSample, long toSample, int points) {
+		double[] min = new double[points];
+		double[] max = new double[points];
+		double[] mean = new double[points];
+		int filled = pyramid.fetch(fromSample, toSample, points, min, max, mean);
+		String range = fromSample + " to " + toSample + " in " + points;
+
+		int levelIndex = 0;
+		double samplesPerPoint = (toSample - fromSample) / (double)points;
+		while(levelIndex + 1 < pyramid.getLevelCount() && pyramid.getBucketSize(levelIndex + 1) <= samplesPerPoint && pyramid.getBucketCount(levelIndex + 1) > 0) {
+			levelIndex++;
+		}
+		long bucketSize = pyramid.getBucketSize(levelIndex);
+		long count = pyramid.getBucketCount(levelIndex);
+		long firstBucket = Math.min(count, fromSample / bucketSize);
+		long lastBucket = Math.min(count, (toSample + bucketSize - 1) / bucketSize);
+		long bucketRange = lastBucket - firstBucket;
+		int levelPoints = (int)Math.min(points, bucketRange);
+		int expectedFilled = levelPoints;
+
+		//Whatever the finished buckets of the chosen level leave out goes into the last point
+		long restFrom = Math.max(lastBucket * bucketSize, coveredFrom(pyramid, levelIndex, fromSample));
+		long restTo = coveredTo(pyramid, levelIndex, toSample);
+		if(expectedFilled == 0 && restTo > restFrom) {
+			expectedFilled = 1;
+		}
+		assertEquals(expectedFilled, filled, range);
+
+		for(int point = 0; point < filled; point++) {
+			long start = (firstBucket + bucketRange * point / Math.max(1, levelPoints)) * bucketSize;
+			long end = (firstBucket + bucketRange * (point + 1) / Math.max(1, levelPoints)) * bucketSize;
+			double expectedMin = Double.POSITIVE_INFINITY;
+			double expectedMax = Double.NEGATIVE_INFINITY;
+			double sum = 0;
+			long sampleCount = 0;
+			for(long sample = start; sample < end; sample++) {
+				expectedMin = Math.min(expectedMin, samples[(int)sample]);
+				expectedMax = Math.max(expectedMax, samples[(int)sample]);
+				sum += samples[(int)sample];
+				sampleCount++;
+			}
+			if(point == filled - 1) {
+				for(long sample = restFrom; sample < restTo; sample++) {
+					expectedMin = Math.min(expectedMin, samples[(int)sample]);
+					expectedMax = Math.max(expectedMax, samples[(int)sample]);
+					sum += samples[(int)sample];
+					sampleCount++;
+				}
+			}
+			assertEquals(expectedMin, min[point], range + ", point " + point);
+			assertEquals(expectedMax, max[point], range + ", point " + point);
+			assertEquals(sum / sampleCount, mean[point], 1e-9 * (1 + Math.abs(sum / sampleCount)), range + ", point " + point);
+		}
+	}
+
+	@Test
+	public void fetchMatchesAScanOverRandomRanges() {
+		Random random = new Random(42);
+		for(int fanout : new int[] {2, 4, 8}) {
+			TelemetryPyramid pyramid = new TelemetryPyramid(fanout);
+			double[] samples = fill(pyramid, 10000 + random.nextInt(fanout * fanout), random); //Leaves unfinished buckets and a tail
+			for(int i = 0; i < RANGES; i++) {
+				long fromSample = random.nextInt(samples.length);
+				long toSample = fromSample + 1 + random.nextInt(samples.length - (int)fromSample + fanout); //Sometimes past the newest sample
+				check(pyramid, samples, fromSample, toSample, 1 + random.nextInt(200));
+			}
+		}
+	}
+
+	@Test
+	public void fetchIncludesTheNewestSamples() {
+		Random random = new Random(7);
+		TelemetryPyramid pyramid = new TelemetryPyramid();
+		double[] samples = fill(pyramid, 8 * 8 * 8 * 3 + 8 * 5 + 3, random); //Unfinished level 1 and 2 buckets, then 3 raw samples
+		int sampleCount = samples.length;
+		for(int points : new int[] {1, 2, 3, 7, 50, 2000}) {
+			check(pyramid, samples, 0, sampleCount, points);
+			check(pyramid, samples, sampleCount - 3, sampleCount, points); //Only the tail
+			check(pyramid, samples, sampleCount - 2, sampleCount - 1, points);
+			check(pyramid, samples, sampleCount - 50, sampleCount, points); //Level 0 buckets and the tail
+			check(pyramid, samples, 100, sampleCount - 1, points);
+			check(pyramid, samples, 8 * 8 * 8 * 3 - 1, sampleCount + 100, points);
+		}
+
+		double[] min = new double[1];
+		double[] max = new double[1];
+		double[] mean = new double[1];
+		assertEquals(1, pyramid.fetch(sampleCount - 3, sampleCount, 1, min, max, mean));
+		assertEquals(Math.max(samples[sampleCount - 3], Math.max(samples[sampleCount - 2], samples[sampleCount - 1])), max[0]);
+		assertEquals(0, pyramid.fetch(sampleCount, sampleCount + 10, 1, min, max, mean)); //Nothing recorded there yet
+	}
+
+}
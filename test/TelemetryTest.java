@@ -0,0 +1,125 @@
+//***************************************************************
+// Class: TelemetryTest
+// Author: Monstroe
+// Modified: 10/18/2026
+//
+// Purpose: Writes a flight with TelemetryWriter and checks that TelemetryReader gives back every sample exactly, and that a failing file never hangs the writer
+//
+//**************************************************************
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TelemetryTest {
+	
+	private static final double TIME_STEP = 1 / 60.0;
+	private static final int BLOCK_TICKS = 64;
+	private static final int TICKS = 1000; //Not a whole number of blocks, so the last one is partial
+	
+	@TempDir
+	Path directory;
+	
+	private static GameManager createGameManager() {
+		GameManager gameManager = new GameManager(TIME_STEP);
+		Rocket rocket = gameManager.getPlayer();
+		rocket.setCurrentBody(BodyCatalog.createBodies().get(0));
+		rocket.setCommandModule(PartCatalog.createCommandModules().get(0));
+		rocket.setFuselage(PartCatalog.createFuselages().get(0));
+		rocket.setEngine(PartCatalog.createEngines().get(3));
+		rocket.setStartingAltitude(5000);
+		gameManager.resetMathModel();
+		return gameManager;
+	}
+
+	@Test
+	public void readerReturnsWhatWasWritten() throws IOException {
+		File file = directory.resolve("flight" + TelemetryWriter.EXTENSION).toFile();
+		GameManager gameManager = createGameManager();
+		Rocket rocket = gameManager.getPlayer();
+		TelemetryWriter writer = new TelemetryWriter(file, TIME_STEP, BLOCK_TICKS);
+		writer.setLossless(true);
+		
+		double[] times = new double[TICKS];
+		double[] altitudes = new double[TICKS];
+		double[] fuelLevels = new double[TICKS];
+		gameManager.submitControl(ControlType.ACTIVATE, 0);
+		gameManager.submitControl(ControlType.THROTTLE, 0.5);
+		for(int i = 0; i < TICKS; i++) {
+			gameManager.simulate();
+			writer.record(gameManager);
+			times[i] = gameManager.getSimulationTime();
+			altitudes[i] = rocket.calculateDistanceToSurfaceOfBody();
+			fuelLevels[i] = rocket.getFuselage().getFuelLevel();
+		}
+		writer.close();
+		assertEquals(0, writer.getDroppedSamples());
+		
+		TelemetryReader reader = new TelemetryReader(file);
+		assertEquals(TICKS, reader.getTickCount());
+		assertEquals(BLOCK_TICKS, reader.getBlockTicks());
+		assertEquals(TIME_STEP, reader.getTimeStep());
+		for(int i = 0; i < TICKS; i++) {
+			assertEquals(times[i], reader.get(TelemetryField.TIME, i));
+			assertEquals(fuelLevels[i], reader.get(TelemetryField.FUEL_LEVEL, i));
+		}
+		
+		double[] values = new double[TICKS + 2];
+		reader.read(TelemetryField.ALTITUDE, 0, TICKS, values, 2); //Across every block boundary
+		for(int i = 0; i < TICKS; i++) {
+			assertEquals(altitudes[i], values[i + 2]);
+		}
+		reader.read(TelemetryField.ALTITUDE, BLOCK_TICKS - 3, 7, values, 0);
+		assertEquals(altitudes[BLOCK_TICKS + 3], values[6]);
+		
+		assertEquals(0, reader.findTick(0));
+		assertEquals(500, reader.findTick(times[500]));
+		assertEquals(501, reader.findTick(times[500] + TIME_STEP / 2));
+		assertEquals(TICKS, reader.findTick(times[TICKS - 1] + 1));
+		assertThrows(IndexOutOfBoundsException.class, () -> reader.get(TelemetryField.TIME, TICKS));
+		assertThrows(IndexOutOfBoundsException.class, () -> reader.read(TelemetryField.TIME, TICKS - 1, 2, values, 0));
+	}
+
+	@Test
+	public void failedWritesDoNotHang() throws Exception {
+		File file = directory.resolve("failing" + TelemetryWriter.EXTENSION).toFile();
+		GameManager gameManager = createGameManager();
+		TelemetryWriter writer = new TelemetryWriter(file, TIME_STEP, BLOCK_TICKS);
+		writer.setLossless(true);
+		
+		//Closing the channel under the writer makes every block write fail
+		Field channel = TelemetryWriter.class.getDeclaredField("channel");
+		channel.setAccessible(true);
+		((FileChannel)channel.get(writer)).close();
+		
+		assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+			for(int i = 0; i < TICKS; i++) {
+				gameManager.simulate();
+				writer.record(gameManager);
+			}
+			writer.close();
+		});
+		assertTrue(writer.isFailed());
+		assertEquals(0, new TelemetryReader(file).getTickCount()); //Nothing made it into the file, and the header says so
+	}
+
+	@Test
+	public void rejectsOtherFiles() throws IOException {
+		File file = directory.resolve("not telemetry" + TelemetryWriter.EXTENSION).toFile();
+		Files.write(file.toPath(), new byte[TelemetryWriter.HEADER_BYTES]);
+		assertThrows(IOException.class, () -> new TelemetryReader(file));
+	}
+
+}